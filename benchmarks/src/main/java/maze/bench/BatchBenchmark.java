@@ -0,0 +1,57 @@
+package maze.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import maze.*;
+import org.openjdk.jmh.annotations.*;
+
+// Throughput query acak terhadap jumlah thread; idealnya naik linear sampai jumlah core
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+    private static final int QUERIES = 256;
+
+    @Param({"1024"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"Dijkstra", "ALT"})
+    public String algorithm;
+
+    private BatchSolver batch;
+    private ForkJoinPool pool;
+    private int[] starts, ends;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MazeGrid grid = Mazes.generate(size, 42);
+        WeightedGraph graph = new WeightedGraph(grid);
+        pool = new ForkJoinPool(threads);
+        batch = new BatchSolver(graph, (DijkstraSolver) Mazes.solver(algorithm, graph), pool);
+        Random rand = new Random(7);
+        starts = new int[QUERIES];
+        ends = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            starts[i] = rand.nextInt(grid.size());
+            ends[i] = rand.nextInt(grid.size());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public SolveResult[] solveAll() {
+        return batch.solveAll(starts, ends);
+    }
+}
@@ -0,0 +1,54 @@
+package maze.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import maze.*;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+    @Param({"30", "256", "1024", "4096"})
+    public int size;
+
+    private MazeGrid grid;
+    private Random rand;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = new MazeGrid(size, size);
+        rand = new Random(42);
+    }
+
+    // reset() ikut terukur: O(n) Arrays.fill, kecil dibanding pengukiran
+    @Benchmark
+    public MazeGrid prim() {
+        grid.reset();
+        new PrimGenerator().generate(grid, rand, MazeAlgorithm.DEFAULT_BRAID_RATIO);
+        return grid;
+    }
+
+    @Benchmark
+    public MazeGrid kruskal() {
+        grid.reset();
+        new KruskalGenerator().generate(grid, rand, MazeAlgorithm.DEFAULT_BRAID_RATIO);
+        return grid;
+    }
+
+    @Benchmark
+    public MazeGrid assignTerrainTypes() {
+        TerrainAssigner.assign(grid, rand);
+        return grid;
+    }
+
+    // Ambang kuantil dihitung di konstruktor, jadi ikut terukur seperti pada pemakaian nyata
+    @Benchmark
+    public MazeGrid noiseTerrain() {
+        new NoiseTerrain(42).assign(grid);
+        return grid;
+    }
+}
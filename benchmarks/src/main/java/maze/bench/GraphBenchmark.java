@@ -0,0 +1,50 @@
+package maze.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import maze.*;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+    @Param({"30", "256", "1024", "4096"})
+    public int size;
+
+    private MazeGrid grid;
+    private WeightedGraph implicitGraph;
+    private int[] nb;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Mazes.generate(size, 42);
+        implicitGraph = new WeightedGraph(grid);
+        nb = new int[WeightedGraph.MAX_DEGREE];
+    }
+
+    @Benchmark
+    public WeightedGraph buildImplicit() {
+        return new WeightedGraph(grid);
+    }
+
+    @Benchmark
+    public WeightedGraph buildCsr() {
+        return new WeightedGraph(grid, true);
+    }
+
+    // Satu sapuan tetangga ke seluruh sel, mengukur biaya getNeighbors di hot loop
+    @Benchmark
+    public long neighborSweep() {
+        long sum = 0;
+        int n = implicitGraph.size();
+        for (int id = 0; id < n; id++) {
+            int k = implicitGraph.neighbors(id, nb);
+            for (int i = 0; i < k; i++) sum += nb[i];
+        }
+        return sum;
+    }
+}
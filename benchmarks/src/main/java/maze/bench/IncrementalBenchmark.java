@@ -0,0 +1,54 @@
+package maze.bench;
+
+import java.util.concurrent.TimeUnit;
+import maze.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+// Biaya merencanakan ulang setelah satu sel di tengah path berganti terrain
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalBenchmark {
+    @Param({"256", "1024"})
+    public int size;
+
+    // Posisi sel yang diedit sepanjang path: makin dekat end, makin kecil area terdampak
+    @Param({"0.5", "0.9"})
+    public double position;
+
+    private MazeGrid grid;
+    private WeightedGraph graph;
+    private IncrementalSolver solver;
+    private int end, cell;
+    private boolean lava;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) {
+        grid = Mazes.generate(size, 42);
+        graph = new WeightedGraph(grid);
+        solver = new IncrementalSolver();
+        end = grid.size() - 1;
+        int[] path = solver.solve(graph, 0, end).path;
+        cell = path[(int) ((path.length - 1) * position)];
+        // Hanya replan yang mendengarkan edit; fullDijkstra tidak menumpuk antrian perubahan
+        if (params.getBenchmark().endsWith("replan")) grid.addChangeListener(solver);
+    }
+
+    @Benchmark
+    public SolveResult replan() {
+        lava = !lava;
+        grid.setTerrain(cell, lava ? TerrainType.LAVA : TerrainType.GRASS);
+        return solver.solve(graph, 0, end);
+    }
+
+    @Benchmark
+    public SolveResult fullDijkstra() {
+        lava = !lava;
+        grid.setTerrain(cell, lava ? TerrainType.LAVA : TerrainType.GRASS);
+        return new DijkstraSolver().solve(graph, 0, end);
+    }
+}
@@ -0,0 +1,21 @@
+package maze.bench;
+
+import java.util.Random;
+import maze.*;
+
+// Fixture bersama: maze persegi yang deterministik untuk seed tertentu
+final class Mazes {
+    private Mazes() {}
+
+    static MazeGrid generate(int size, long seed) {
+        Random rand = new Random(seed);
+        MazeGrid grid = new MazeGrid(size, size);
+        new PrimGenerator().generate(grid, rand, MazeAlgorithm.DEFAULT_BRAID_RATIO);
+        TerrainAssigner.assign(grid, rand);
+        return grid;
+    }
+
+    static MazeSolver solver(String name, WeightedGraph graph) {
+        return MazeSolvers.create(name, graph);
+    }
+}
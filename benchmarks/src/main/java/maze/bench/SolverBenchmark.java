@@ -0,0 +1,37 @@
+package maze.bench;
+
+import java.util.concurrent.TimeUnit;
+import maze.*;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"30", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"BFS", "ParallelBFS", "DFS", "Dijkstra", "AStar", "ALT", "Junction", "DeltaStepping"})
+    public String algorithm;
+
+    private WeightedGraph graph;
+    private MazeSolver solver;
+    private int start, end;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MazeGrid grid = Mazes.generate(size, 42);
+        graph = new WeightedGraph(grid);
+        start = 0;
+        end = grid.size() - 1;
+        solver = Mazes.solver(algorithm, graph);
+    }
+
+    @Benchmark
+    public SolveResult solve() {
+        return solver.solve(graph, start, end);
+    }
+}
@@ -0,0 +1,18 @@
+package maze;
+
+public class AStarSolver extends DijkstraSolver {
+    @Override
+    public String name() {
+        return "A*";
+    }
+
+    @Override
+    protected int heuristic(MazeView grid, int cell, int end) {
+        return grid.manhattan(cell, end);
+    }
+
+    @Override
+    protected int heuristicStep() {
+        return 1;
+    }
+}
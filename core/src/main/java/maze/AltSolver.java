@@ -0,0 +1,25 @@
+package maze;
+
+// A* dengan heuristik landmark; optimal karena batas ALT admissible dan konsisten
+public class AltSolver extends DijkstraSolver {
+    private final Landmarks landmarks;
+
+    public AltSolver(Landmarks landmarks) {
+        this.landmarks = landmarks;
+    }
+
+    @Override
+    public String name() {
+        return "A* (ALT)";
+    }
+
+    @Override
+    protected int heuristic(MazeView grid, int cell, int end) {
+        return landmarks.estimate(cell, end);
+    }
+
+    @Override
+    protected int heuristicStep() {
+        return 2 * MazeGrid.MAX_WEIGHT;
+    }
+}
@@ -0,0 +1,115 @@
+package maze;
+
+import javax.swing.Timer;
+
+/*
+ * Memutar ulang hasil solver di EDT dengan javax.swing.Timer. Pencarian sudah selesai
+ * dengan kecepatan penuh; di sini hanya playback yang dibatasi. Tiap frame menambah
+ * anggaran waktu (dikali speed) lalu menerapkan sebanyak mungkin event yang muat.
+ * Semua perubahan flag visited/path terjadi di EDT, jadi tidak balapan dengan paint.
+ */
+public class AnimationScheduler {
+    public static final int FRAME_MS = 16;
+    public static final int STEP_MS = 15;
+    public static final int WALK_MS = 100;
+
+    private static final int VISIT = 0, PATH = 1, WALK = 2, DONE = 3;
+
+    private final MazeGrid maze;
+    private final MazePanel panel;
+    private final ExpansionLog log;
+    private final int[] path;
+    private final Runnable onFinish;
+    private final Timer timer;
+
+    private int phase = VISIT;
+    private int index;
+    private double budget;
+    private double speed = 1.0;
+    private long lastTick;
+    private boolean finished;
+
+    public AnimationScheduler(MazeGrid maze, MazePanel panel, ExpansionLog log, int[] path, Runnable onFinish) {
+        this.maze = maze;
+        this.panel = panel;
+        this.log = log;
+        this.path = path;
+        this.onFinish = onFinish;
+        this.timer = new Timer(FRAME_MS, e -> tick());
+        this.timer.setCoalesce(true);
+    }
+
+    // Kelipatan kecepatan relatif terhadap animasi asli (STEP_MS per sel)
+    public void setSpeed(double speed) {
+        this.speed = Math.max(0.01, speed);
+    }
+
+    public void start() {
+        lastTick = System.nanoTime();
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    public void skipToEnd() {
+        while (phase != DONE) {
+            if (exhausted()) nextPhase();
+            else if (phase == WALK) index = path.length;
+            else applyNext();
+        }
+        if (path.length > 0) {
+            int last = path[path.length - 1];
+            panel.setPlayerPosition(maze.row(last), maze.col(last));
+        }
+        finish();
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        budget += (now - lastTick) / 1e6 * speed;
+        lastTick = now;
+        while (phase != DONE) {
+            if (exhausted()) {
+                nextPhase();
+                continue;
+            }
+            int cost = phase == WALK ? WALK_MS : STEP_MS;
+            if (budget < cost) break;
+            budget -= cost;
+            applyNext();
+        }
+        if (phase == DONE) finish();
+    }
+
+    private boolean exhausted() {
+        return index >= (phase == VISIT ? log.size() : path.length);
+    }
+
+    private void applyNext() {
+        int cell = phase == VISIT ? log.get(index++) : path[index++];
+        if (phase == VISIT) maze.setVisited(cell, true);
+        else if (phase == PATH) maze.setPath(cell, true);
+        if (phase == WALK) panel.setPlayerPosition(maze.row(cell), maze.col(cell));
+        else panel.repaintCell(cell);
+    }
+
+    private void nextPhase() {
+        phase++;
+        index = 0;
+        // Tanpa path tidak ada yang perlu ditelusuri atau dijalani
+        if (phase == PATH && path.length == 0) phase = DONE;
+    }
+
+    private void finish() {
+        timer.stop();
+        if (finished) return;
+        finished = true;
+        if (onFinish != null) onFinish.run();
+    }
+}
@@ -0,0 +1,55 @@
+package maze;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Menjalankan banyak query (start, end) secara paralel atas satu graph yang hanya dibaca.
+ * Setiap worker memegang satu SearchBuffers untuk seluruh query yang diambilnya, jadi
+ * tidak ada alokasi O(n) per query. Query diambil dari counter bersama (biayanya bisa
+ * sangat berbeda) dan hasil ditulis ke indeks yang sama dengan inputnya. Tiap query tercatat
+ * di MazeMetrics seperti solve dari UI.
+ */
+public class BatchSolver {
+    private final WeightedGraph graph;
+    private final DijkstraSolver solver;
+    private final ForkJoinPool pool;
+
+    public BatchSolver(WeightedGraph graph, DijkstraSolver solver) {
+        this(graph, solver, ForkJoinPool.commonPool());
+    }
+
+    public BatchSolver(WeightedGraph graph, DijkstraSolver solver, ForkJoinPool pool) {
+        this.graph = graph;
+        this.solver = solver;
+        this.pool = pool;
+    }
+
+    public SolveResult[] solveAll(int[] starts, int[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("starts and ends differ in length: " + starts.length + " vs " + ends.length);
+        }
+        int n = graph.size();
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] < 0 || starts[i] >= n || ends[i] < 0 || ends[i] >= n) {
+                throw new IndexOutOfBoundsException("Query " + i + " out of range: " + starts[i] + " -> " + ends[i]);
+            }
+        }
+
+        SolveResult[] results = new SolveResult[starts.length];
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(pool.getParallelism(), starts.length);
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+        for (int w = 0; w < workers; w++) {
+            tasks[w] = pool.submit(() -> {
+                SearchBuffers buffers = solver.createBuffers(n);
+                for (int i = next.getAndIncrement(); i < results.length; i = next.getAndIncrement()) {
+                    results[i] = MazeMetrics.solve(solver, graph, starts[i], ends[i], null, buffers);
+                }
+            });
+        }
+        for (ForkJoinTask<?> task : tasks) task.join();
+        return results;
+    }
+}
@@ -0,0 +1,50 @@
+package maze;
+
+import java.util.BitSet;
+
+public class BfsSolver implements MazeSolver {
+    @Override
+    public String name() {
+        return "BFS";
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        int n = graph.size();
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        int[] parent = new int[n];
+        BitSet visited = new BitSet(n);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int expanded = 0, peak = 1;
+
+        parent[start] = -1;
+        queue[tail++] = start;
+        visited.set(start);
+
+        while (head < tail) {
+            int current = queue[head++];
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            if (current == end) {
+                int[] path = SolveResult.tracePath(parent, end);
+                return new SolveResult(name(), path, SolveResult.pathCost(graph, path),
+                        expanded, tail, peak, System.nanoTime() - t0);
+            }
+
+            int degree = graph.neighbors(current, nb);
+            for (int k = 0; k < degree; k++) {
+                int neighbor = nb[k];
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    parent[neighbor] = current;
+                    queue[tail++] = neighbor;
+                }
+            }
+            peak = Math.max(peak, tail - head);
+        }
+        return SolveResult.notFound(name(), expanded, tail, peak, System.nanoTime() - t0);
+    }
+}
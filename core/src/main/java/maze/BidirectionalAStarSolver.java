@@ -0,0 +1,32 @@
+package maze;
+
+// Potensial Manhattan seperti AStarSolver, dengan batasan optimalitas yang sama
+public class BidirectionalAStarSolver extends BidirectionalDijkstraSolver {
+    public BidirectionalAStarSolver() {
+        super(false);
+    }
+
+    public BidirectionalAStarSolver(boolean parallel) {
+        super(parallel);
+    }
+
+    @Override
+    public String name() {
+        return super.name().replace("Dijkstra", "A*");
+    }
+
+    @Override
+    protected int toEnd(MazeView grid, int v, int end) {
+        return grid.manhattan(v, end);
+    }
+
+    @Override
+    protected int fromStart(MazeView grid, int v, int start) {
+        return grid.manhattan(start, v);
+    }
+
+    @Override
+    protected int heuristicStep() {
+        return 1;
+    }
+}
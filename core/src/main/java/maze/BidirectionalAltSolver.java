@@ -0,0 +1,30 @@
+package maze;
+
+public class BidirectionalAltSolver extends BidirectionalDijkstraSolver {
+    private final Landmarks landmarks;
+
+    public BidirectionalAltSolver(Landmarks landmarks, boolean parallel) {
+        super(parallel);
+        this.landmarks = landmarks;
+    }
+
+    @Override
+    public String name() {
+        return super.name().replace("Dijkstra", "A* (ALT)");
+    }
+
+    @Override
+    protected int toEnd(MazeView grid, int v, int end) {
+        return landmarks.estimate(v, end);
+    }
+
+    @Override
+    protected int fromStart(MazeView grid, int v, int start) {
+        return landmarks.estimate(start, v);
+    }
+
+    @Override
+    protected int heuristicStep() {
+        return 2 * MazeGrid.MAX_WEIGHT;
+    }
+}
@@ -0,0 +1,84 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * BFS dari start dan end sekaligus. Tiap langkah mengembangkan satu level penuh dari
+ * frontier yang lebih kecil; begitu level itu menyentuh sel milik sisi lain, pertemuan
+ * dengan total langkah terkecil di level tersebut dipilih lalu pencarian berhenti.
+ */
+public class BidirectionalBfsSolver implements MazeSolver {
+    @Override
+    public String name() {
+        return "Bidirectional BFS";
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        int n = graph.size();
+        int[] distF = new int[n], distB = new int[n];
+        int[] parentF = new int[n], parentB = new int[n];
+        Arrays.fill(distF, -1);
+        Arrays.fill(distB, -1);
+        int[] queueF = new int[n], queueB = new int[n];
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int headF = 0, tailF = 0, headB = 0, tailB = 0;
+        int expanded = 0, peak = 2;
+
+        distF[start] = 0;
+        parentF[start] = -1;
+        queueF[tailF++] = start;
+        distB[end] = 0;
+        parentB[end] = -1;
+        queueB[tailB++] = end;
+
+        int meet = start == end ? start : -1;
+        int best = start == end ? 0 : Integer.MAX_VALUE;
+        while (meet < 0 && headF < tailF && headB < tailB) {
+            boolean forward = tailF - headF <= tailB - headB;
+            int[] queue = forward ? queueF : queueB;
+            int[] dist = forward ? distF : distB, otherDist = forward ? distB : distF;
+            int[] parent = forward ? parentF : parentB;
+            int head = forward ? headF : headB, tail = forward ? tailF : tailB;
+
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int current = queue[head++];
+                expanded++;
+                if (listener != null) listener.onExpand(current);
+                int degree = graph.neighbors(current, nb);
+                for (int k = 0; k < degree; k++) {
+                    int neighbor = nb[k];
+                    if (dist[neighbor] < 0) {
+                        dist[neighbor] = dist[current] + 1;
+                        parent[neighbor] = current;
+                        queue[tail++] = neighbor;
+                    }
+                    if (otherDist[neighbor] >= 0 && dist[neighbor] + otherDist[neighbor] < best) {
+                        best = dist[neighbor] + otherDist[neighbor];
+                        meet = neighbor;
+                    }
+                }
+            }
+            if (forward) { headF = head; tailF = tail; } else { headB = head; tailB = tail; }
+            peak = Math.max(peak, (tailF - headF) + (tailB - headB));
+        }
+
+        int pushes = tailF + tailB;
+        if (meet < 0) return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+        int[] path = joinPaths(parentF, parentB, meet);
+        return new SolveResult(name(), path, SolveResult.pathCost(graph, path), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+
+    // start -> meet lewat parentF, lalu meet -> end lewat parentB
+    static int[] joinPaths(int[] parentF, int[] parentB, int meet) {
+        int[] head = SolveResult.tracePath(parentF, meet);
+        int tailLength = 0;
+        for (int c = parentB[meet]; c != -1; c = parentB[c]) tailLength++;
+        int[] path = Arrays.copyOf(head, head.length + tailLength);
+        int i = head.length;
+        for (int c = parentB[meet]; c != -1; c = parentB[c]) path[i++] = c;
+        return path;
+    }
+}
@@ -0,0 +1,194 @@
+package maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Dijkstra dua arah. Masuk ke sel v berbiaya weight(v), jadi arah mundur merelaksasi
+ * y <- x dengan biaya weight(x). Kunci antrian memakai potensial rata-rata
+ * p(v) = (toEnd(v) - fromStart(v)) / 2 (dikali 2 supaya tetap integer); berhenti saat
+ * topF + topB >= 2 * mu, dengan mu = jalur terbaik yang sudah bertemu.
+ * Mode paralel menjalankan kedua arah di dua thread; jarak dibagi lewat akses volatile.
+ */
+public class BidirectionalDijkstraSolver implements MazeSolver {
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int INF = Integer.MAX_VALUE;
+    private static final long NO_KEY = Long.MAX_VALUE / 4;
+
+    private final boolean parallel;
+
+    public BidirectionalDijkstraSolver() {
+        this(false);
+    }
+
+    public BidirectionalDijkstraSolver(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public String name() {
+        return parallel ? "Bidirectional Dijkstra (2 threads)" : "Bidirectional Dijkstra";
+    }
+
+    // Perkiraan biaya v -> end dan start -> v; nol berarti Dijkstra murni
+    protected int toEnd(MazeView grid, int v, int end) {
+        return 0;
+    }
+
+    protected int fromStart(MazeView grid, int v, int start) {
+        return 0;
+    }
+
+    protected int heuristicStep() {
+        return 0;
+    }
+
+    private final class Side {
+        final boolean forward;
+        final int origin, target;
+        final int[] dist, parent;
+        final BitSet settled;
+        final IntPriorityQueue pq;
+        final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        volatile long top;
+        int expanded, pushes, peak;
+        Side other;
+
+        Side(boolean forward, int n, int origin, int target) {
+            this.forward = forward;
+            this.origin = origin;
+            this.target = target;
+            dist = new int[n];
+            parent = new int[n];
+            settled = new BitSet(n);
+            Arrays.fill(dist, INF);
+            int maxStep = 2 * (MazeGrid.MAX_WEIGHT + heuristicStep());
+            pq = maxStep < BucketQueue.MAX_WIDTH ? new BucketQueue(n, maxStep) : new IntBinaryHeap(n);
+        }
+
+        int key(MazeView grid, int v, int d, int start, int end) {
+            int p = toEnd(grid, v, end) - fromStart(grid, v, start);
+            return 2 * d + (forward ? p : -p);
+        }
+
+        int otherDist(int v) {
+            return parallel ? (int) INTS.getVolatile(other.dist, v) : other.dist[v];
+        }
+
+        void setDist(int v, int d) {
+            if (parallel) INTS.setVolatile(dist, v, d);
+            else dist[v] = d;
+        }
+
+        long peekTop() {
+            return pq.isEmpty() ? NO_KEY : pq.peekPriority();
+        }
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        MazeView grid = graph.getGrid();
+        int n = graph.size();
+        Side fwd = new Side(true, n, start, end);
+        Side bwd = new Side(false, n, end, start);
+        fwd.other = bwd;
+        bwd.other = fwd;
+        // mu dan sel pertemuan dipak jadi satu long: (mu << 32) | sel
+        AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+        AtomicBoolean stop = new AtomicBoolean();
+
+        for (Side s : new Side[] {fwd, bwd}) {
+            s.setDist(s.origin, 0);
+            s.parent[s.origin] = -1;
+            s.pq.push(s.origin, s.key(grid, s.origin, 0, start, end));
+            s.pushes++;
+            s.top = s.peekTop();
+        }
+        if (start == end) offer(best, 0, start);
+
+        if (parallel) {
+            Thread backward = new Thread(() -> run(bwd, graph, start, end, listener, best, stop), "bidir-backward");
+            backward.start();
+            run(fwd, graph, start, end, listener, best, stop);
+            try {
+                backward.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            while (!stop.get()) {
+                Side s = fwd.peekTop() <= bwd.peekTop() ? fwd : bwd;
+                if (!step(s, graph, start, end, listener, best)) stop.set(true);
+            }
+        }
+
+        int expanded = fwd.expanded + bwd.expanded;
+        int pushes = fwd.pushes + bwd.pushes;
+        int peak = fwd.peak + bwd.peak;
+        long b = best.get();
+        if (b == Long.MAX_VALUE) return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+        int[] path = BidirectionalBfsSolver.joinPaths(fwd.parent, bwd.parent, (int) b);
+        return new SolveResult(name(), path, SolveResult.pathCost(graph, path), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+
+    private void run(Side s, WeightedGraph graph, int start, int end, SolverListener listener,
+                     AtomicLong best, AtomicBoolean stop) {
+        while (!stop.get()) {
+            if (!step(s, graph, start, end, listener, best)) stop.set(true);
+        }
+        s.top = NO_KEY;
+    }
+
+    // Satu ekspansi; false jika kondisi berhenti terpenuhi
+    private boolean step(Side s, WeightedGraph graph, int start, int end, SolverListener listener, AtomicLong best) {
+        long top = s.peekTop();
+        s.top = top;
+        long mu = best.get() >>> 32;
+        // top sisi lain dibaca mungkin basi (lebih kecil), jadi paling buruk berhenti terlambat
+        if (top == NO_KEY || top + s.other.top >= 2 * mu) return false;
+
+        MazeView grid = graph.getGrid();
+        int[] nb = s.nb;
+        int current = s.pq.popMin();
+        s.settled.set(current);
+        s.expanded++;
+        if (listener != null) {
+            if (parallel) {
+                synchronized (listener) { listener.onExpand(current); }
+            } else {
+                listener.onExpand(current);
+            }
+        }
+
+        int du = s.dist[current];
+        int degree = graph.neighbors(current, nb);
+        for (int k = 0; k < degree; k++) {
+            int neighbor = nb[k];
+            if (s.settled.get(neighbor)) continue;
+            int nd = du + (s.forward ? graph.weight(neighbor) : graph.weight(current));
+            if (nd < s.dist[neighbor]) {
+                s.setDist(neighbor, nd);
+                s.parent[neighbor] = current;
+                s.pq.push(neighbor, s.key(grid, neighbor, nd, start, end));
+                s.pushes++;
+                int od = s.otherDist(neighbor);
+                if (od != INF) offer(best, nd + od, neighbor);
+            }
+        }
+        s.peak = Math.max(s.peak, s.pq.size());
+        return true;
+    }
+
+    private static void offer(AtomicLong best, long mu, int cell) {
+        long packed = mu << 32 | cell;
+        long cur;
+        while (packed < (cur = best.get())) {
+            if (best.compareAndSet(cur, packed)) return;
+        }
+    }
+}
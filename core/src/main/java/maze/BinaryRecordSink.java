@@ -0,0 +1,75 @@
+package maze;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Format biner ringkas untuk hasil batch (big-endian, DataOutputStream):
+ *   header: magic "MZRS", versi
+ *   tiap record diawali tag byte:
+ *     TAG_NAME:   id (short), nama (UTF) - mendefinisikan nama generator/solver sekali saja
+ *     TAG_RECORD: index (long), generator id (short), rows, cols (int), seed (long), braid (double),
+ *                 terrain (byte, ordinal MazeSpec.TerrainMode), solver id (short), cost, length, expanded, pushes, pops (int),
+ *                 neighborLookups (long), peakFrontier (int), nanos (long)
+ * cost = -1 berarti tidak ada jalur.
+ */
+public class BinaryRecordSink implements SolveRecordSink {
+    public static final int MAGIC = 0x4D5A5253; // "MZRS"
+    public static final int VERSION = 1;
+    public static final int TAG_NAME = 1, TAG_RECORD = 2;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> names = new HashMap<>();
+
+    public BinaryRecordSink(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+    }
+
+    @Override
+    public void accept(SolveRecord record) throws IOException {
+        MazeSpec spec = record.spec;
+        SolveResult r = record.result;
+        int generator = nameId(spec.algorithm().name());
+        int solver = nameId(record.solver);
+        out.writeByte(TAG_RECORD);
+        out.writeLong(record.index);
+        out.writeShort(generator);
+        out.writeInt(spec.rows);
+        out.writeInt(spec.cols);
+        out.writeLong(spec.seed);
+        out.writeDouble(spec.braidRatio);
+        out.writeByte(spec.terrain.ordinal());
+        out.writeShort(solver);
+        out.writeInt(r.cost);
+        out.writeInt(r.path.length);
+        out.writeInt(r.expanded);
+        out.writeInt(r.pushes);
+        out.writeInt(r.pops);
+        out.writeLong(r.neighborLookups);
+        out.writeInt(r.peakFrontier);
+        out.writeLong(r.nanos);
+    }
+
+    private int nameId(String name) throws IOException {
+        Integer id = names.get(name);
+        if (id != null) return id;
+        if (names.size() > Short.MAX_VALUE) throw new IOException("Too many distinct names");
+        int next = names.size();
+        names.put(name, next);
+        out.writeByte(TAG_NAME);
+        out.writeShort(next);
+        out.writeUTF(name);
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,130 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * Dial's bucket queue: bucket melingkar selebar (bobot sisi maksimum + slack heuristik).
+ * Push/pop O(1) amortized dan tanpa alokasi; bucket adalah linked list intrusif per id sel.
+ * Prioritas di luar jendela [cursor, cursor + width) (mis. heuristik A* yang tidak konsisten)
+ * ditampung di heap overflow supaya hasilnya tetap benar.
+ */
+public class BucketQueue implements IntPriorityQueue {
+    public static final int MAX_WIDTH = 1024;
+
+    private static final byte NONE = 0, IN_BUCKET = 1, IN_HEAP = 2;
+
+    private final int capacity;
+    private final int mask;
+    private final int[] head;
+    private final int[] next, prev;
+    private final int[] prio;
+    private final byte[] where;
+    private IntBinaryHeap overflow;
+    private int cursor;
+    private int bucketCount;
+
+    public BucketQueue(int capacity, int maxStep) {
+        if (maxStep < 0 || maxStep >= MAX_WIDTH) {
+            throw new IllegalArgumentException("maxStep out of range: " + maxStep);
+        }
+        this.capacity = capacity;
+        int width = Integer.highestOneBit(maxStep + 1) << 1;
+        mask = width - 1;
+        head = new int[width];
+        next = new int[capacity];
+        prev = new int[capacity];
+        prio = new int[capacity];
+        where = new byte[capacity];
+        Arrays.fill(head, -1);
+    }
+
+    @Override
+    public void push(int id, int priority) {
+        if (where[id] == IN_BUCKET) unlink(id);
+        else if (where[id] == IN_HEAP) overflow.remove(id);
+        if (bucketCount == 0 && (overflow == null || overflow.isEmpty())) cursor = priority;
+
+        prio[id] = priority;
+        if (priority >= cursor && priority - cursor <= mask) {
+            int b = priority & mask;
+            int h = head[b];
+            next[id] = h;
+            prev[id] = -1;
+            if (h >= 0) prev[h] = id;
+            head[b] = id;
+            where[id] = IN_BUCKET;
+            bucketCount++;
+        } else {
+            if (overflow == null) overflow = new IntBinaryHeap(capacity);
+            overflow.push(id, priority);
+            where[id] = IN_HEAP;
+        }
+    }
+
+    @Override
+    public int popMin() {
+        if (bucketCount > 0) {
+            advance();
+            if (overflow == null || overflow.isEmpty() || cursor <= overflow.peekPriority()) {
+                int id = head[cursor & mask];
+                unlink(id);
+                where[id] = NONE;
+                return id;
+            }
+        }
+        int id = overflow.popMin();
+        where[id] = NONE;
+        if (bucketCount == 0 && !overflow.isEmpty()) cursor = overflow.peekPriority();
+        return id;
+    }
+
+    @Override
+    public int peekPriority() {
+        if (bucketCount > 0) {
+            advance();
+            if (overflow == null || overflow.isEmpty()) return cursor;
+            return Math.min(cursor, overflow.peekPriority());
+        }
+        return overflow.peekPriority();
+    }
+
+    // Geser cursor ke bucket tidak kosong pertama (paling jauh satu putaran)
+    private void advance() {
+        while (head[cursor & mask] < 0) cursor++;
+    }
+
+    private void unlink(int id) {
+        int p = prev[id], n = next[id];
+        if (p >= 0) next[p] = n;
+        else head[prio[id] & mask] = n;
+        if (n >= 0) prev[n] = p;
+        bucketCount--;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return where[id] != NONE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return bucketCount + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public void clear() {
+        for (int b = 0; b <= mask; b++) {
+            for (int id = head[b]; id >= 0; id = next[id]) where[id] = NONE;
+            head[b] = -1;
+        }
+        bucketCount = 0;
+        if (overflow != null) {
+            while (!overflow.isEmpty()) where[overflow.popMin()] = NONE;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package maze;
+
+import java.util.concurrent.CancellationException;
+
+// Pembatalan kooperatif: pekerjaan memeriksa token di titik aman, tidak ada interrupt
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void checkCancelled() {
+        if (cancelled) throw new CancellationException();
+    }
+
+    // Solver memanggil listener sekali per ekspansi, jadi itu titik periksa tanpa mengubah solver
+    public SolverListener guard(SolverListener listener) {
+        return cell -> {
+            if (cancelled) throw new CancellationException();
+            if (listener != null) listener.onExpand(cell);
+        };
+    }
+}
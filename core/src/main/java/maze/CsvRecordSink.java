@@ -0,0 +1,45 @@
+package maze;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+public class CsvRecordSink implements SolveRecordSink {
+    public static final String HEADER = "index,generator,rows,cols,seed,braid,terrain,solver,found,cost,length,"
+            + "expanded,pushes,pops,neighbor_lookups,peak_frontier,nanos";
+
+    private final BufferedWriter out;
+
+    public CsvRecordSink(Writer out) throws IOException {
+        this.out = new BufferedWriter(out, 1 << 16);
+        this.out.write(HEADER);
+        this.out.newLine();
+    }
+
+    @Override
+    public void accept(SolveRecord record) throws IOException {
+        MazeSpec spec = record.spec;
+        SolveResult r = record.result;
+        StringBuilder line = new StringBuilder(128)
+                .append(record.index).append(',')
+                .append(quote(spec.algorithm().name())).append(',')
+                .append(spec.rows).append(',').append(spec.cols).append(',')
+                .append(spec.seed).append(',').append(spec.braidRatio).append(',').append(spec.terrain).append(',')
+                .append(quote(record.solver)).append(',')
+                .append(r.found()).append(',').append(r.cost).append(',').append(r.path.length).append(',')
+                .append(r.expanded).append(',').append(r.pushes).append(',').append(r.pops).append(',')
+                .append(r.neighborLookups).append(',').append(r.peakFrontier).append(',').append(r.nanos);
+        out.write(line.toString());
+        out.newLine();
+    }
+
+    private static String quote(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,222 @@
+package maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Delta-stepping (Meyer & Sanders): SSSP paralel untuk bobot terrain 0..MAX_WEIGHT.
+ * Sel dikelompokkan ke bucket selebar delta menurut jaraknya; isi satu bucket direlaksasi
+ * paralel sekaligus. Sisi light (weight(v) <= delta) diulang sampai bucket kosong karena
+ * bisa menambah isi bucket yang sama; sisi heavy cukup sekali per bucket.
+ * Jarak dan parent dipak jadi satu long (jarak << 32 | parent) dan diperbarui dengan CAS,
+ * jadi parent selalu cocok dengan jaraknya meski beberapa thread merelaksasi sel yang sama.
+ * Relaksasi hanya menambah paling banyak MAX_WEIGHT, jadi bucket cukup dibuat melingkar.
+ */
+public class DeltaStepping implements MazeSolver {
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long UNREACHED = ((long) ShortestPathTree.UNREACHED << 32) | 0xFFFFFFFFL;
+    // Kira-kira MAX_WEIGHT / derajat maksimum (4): stone/grass light, sand/lava heavy
+    public static final int DEFAULT_DELTA = 3;
+    private static final int GRAIN = 1024;
+
+    private final int delta;
+    private final ForkJoinPool pool;
+
+    public DeltaStepping() {
+        this(DEFAULT_DELTA, ForkJoinPool.commonPool());
+    }
+
+    public DeltaStepping(int delta, ForkJoinPool pool) {
+        if (delta < 1) throw new IllegalArgumentException("delta must be positive: " + delta);
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    @Override
+    public String name() {
+        return "Delta-stepping (delta=" + delta + ")";
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        Search s = new Search(graph, start, end, listener);
+        s.run();
+        int d = distance(s.state[end]);
+        if (d == ShortestPathTree.UNREACHED) {
+            return SolveResult.notFound(name(), s.expanded, s.pushes, s.pops, s.lookups, s.peak, System.nanoTime() - t0);
+        }
+        ShortestPathTree tree = s.tree();
+        return new SolveResult(name(), tree.path(end), d, s.expanded, s.pushes, s.pops, s.lookups, s.peak,
+                System.nanoTime() - t0);
+    }
+
+    // Peta jarak berbobot dan parent ke seluruh sel dari source
+    public ShortestPathTree search(WeightedGraph graph, int source) {
+        Search s = new Search(graph, source, -1, null);
+        s.run();
+        return s.tree();
+    }
+
+    private static int distance(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private final class Search {
+        final WeightedGraph graph;
+        final int n, source, target;
+        final SolverListener listener;
+        final long[] state;
+        // Bucket melingkar; sel bisa muncul ganda, disaring saat diambil
+        final int[][] buckets;
+        final int[] bucketSize;
+        // Penanda agar sel tidak diproses dua kali dalam satu putaran / dua kali masuk R
+        final int[] takenIn, settledIn;
+        int[] spare = new int[16];
+        final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int pending, round, expanded, pushes, pops, peak;
+        // Sel bisa dipindai ulang di beberapa fase light, plus sekali di fase heavy
+        long lookups;
+
+        Search(WeightedGraph graph, int source, int target, SolverListener listener) {
+            this.graph = graph;
+            this.n = graph.size();
+            this.source = source;
+            this.target = target;
+            this.listener = listener;
+            state = new long[n];
+            Arrays.fill(state, UNREACHED);
+            int count = MazeGrid.MAX_WEIGHT / delta + 2;
+            buckets = new int[count][16];
+            bucketSize = new int[count];
+            takenIn = new int[n];
+            settledIn = new int[n];
+        }
+
+        ShortestPathTree tree() {
+            int[] distance = new int[n], parent = new int[n];
+            for (int v = 0; v < n; v++) {
+                distance[v] = distance(state[v]);
+                parent[v] = (int) state[v];
+            }
+            return new ShortestPathTree(source, distance, parent);
+        }
+
+        void run() {
+            state[source] = 0xFFFFFFFFL;
+            insert(source);
+            int[] settled = new int[16];
+            for (int i = 0; pending > 0; i++) {
+                int b = i % buckets.length;
+                if (bucketSize[b] == 0) continue;
+                int settledCount = 0;
+                int bucketId = i + 1;
+                // Fase light: ulangi sampai bucket i tidak terisi lagi
+                while (bucketSize[b] > 0) {
+                    int[] taken = buckets[b];
+                    int size = bucketSize[b];
+                    buckets[b] = spare;
+                    bucketSize[b] = 0;
+                    pending -= size;
+                    pops += size;
+                    round++;
+                    int k = 0;
+                    for (int j = 0; j < size; j++) {
+                        int u = taken[j];
+                        if (distance(state[u]) / delta != i || takenIn[u] == round) continue;
+                        takenIn[u] = round;
+                        taken[k++] = u;
+                        if (settledIn[u] != bucketId) {
+                            settledIn[u] = bucketId;
+                            if (settledCount == settled.length) settled = Arrays.copyOf(settled, settledCount * 2);
+                            settled[settledCount++] = u;
+                        }
+                    }
+                    relax(taken, k, true);
+                    spare = taken;
+                }
+                expanded += settledCount;
+                if (listener != null) {
+                    for (int j = 0; j < settledCount; j++) listener.onExpand(settled[j]);
+                }
+                // Fase heavy: sekali untuk semua sel yang selesai di bucket ini
+                relax(settled, settledCount, false);
+                if (target >= 0 && distance(state[target]) / delta <= i) return;
+            }
+        }
+
+        private void insert(int v) {
+            int b = (distance(state[v]) / delta) % buckets.length;
+            if (bucketSize[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], bucketSize[b] * 2);
+            buckets[b][bucketSize[b]++] = v;
+            pending++;
+            pushes++;
+            peak = Math.max(peak, bucketSize[b]);
+        }
+
+        // Relaksasi sisi light atau heavy dari cells[0..size) paralel; sel yang membaik dimasukkan ke bucket
+        private void relax(int[] cells, int size, boolean light) {
+            if (size == 0) return;
+            lookups += size;
+            int chunks = Math.min(pool.getParallelism() * 4, (size + GRAIN - 1) / GRAIN);
+            if (chunks == 1) {
+                // Bucket kecil: langsung di thread ini, tanpa CAS dan tanpa daftar perantara
+                for (int i = 0; i < size; i++) {
+                    int u = cells[i];
+                    int du = distance(state[u]);
+                    int degree = graph.neighbors(u, nb);
+                    for (int j = 0; j < degree; j++) {
+                        int v = nb[j];
+                        int w = graph.weight(v);
+                        if ((w <= delta) == light && tryImprove(v, du + w, u, false)) insert(v);
+                    }
+                }
+                return;
+            }
+            int[][] out = new int[chunks][];
+            int[] counts = new int[chunks];
+            ParallelBfs.forEach(pool, chunks, c -> {
+                int from = (int) ((long) size * c / chunks), to = (int) ((long) size * (c + 1) / chunks);
+                int[] nb = new int[WeightedGraph.MAX_DEGREE];
+                int[] improved = new int[16];
+                int k = 0;
+                for (int i = from; i < to; i++) {
+                    int u = cells[i];
+                    int du = distance((long) LONGS.getVolatile(state, u));
+                    int degree = graph.neighbors(u, nb);
+                    for (int j = 0; j < degree; j++) {
+                        int v = nb[j];
+                        int w = graph.weight(v);
+                        if ((w <= delta) != light) continue;
+                        if (tryImprove(v, du + w, u, true)) {
+                            if (k == improved.length) improved = Arrays.copyOf(improved, k * 2);
+                            improved[k++] = v;
+                        }
+                    }
+                }
+                out[c] = improved;
+                counts[c] = k;
+            });
+            for (int c = 0; c < chunks; c++) {
+                for (int j = 0; j < counts[c]; j++) insert(out[c][j]);
+            }
+        }
+
+        private boolean tryImprove(int v, int d, int from, boolean atomic) {
+            long next = ((long) d << 32) | (from & 0xFFFFFFFFL);
+            if (!atomic) {
+                if (d >= distance(state[v])) return false;
+                state[v] = next;
+                return true;
+            }
+            long cur = (long) LONGS.getVolatile(state, v);
+            while (d < distance(cur)) {
+                if (LONGS.compareAndSet(state, v, cur, next)) return true;
+                cur = (long) LONGS.getVolatile(state, v);
+            }
+            return false;
+        }
+    }
+}
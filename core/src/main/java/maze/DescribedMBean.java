@@ -0,0 +1,30 @@
+package maze;
+
+import java.util.Map;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+// Standard MBean dengan deskripsi yang tampil di jconsole/VisualVM, bukan teks bawaan "Attribute exposed for management"
+final class DescribedMBean<T> extends StandardMBean {
+    private final String description;
+    private final Map<String, String> attributes;
+
+    DescribedMBean(T bean, Class<T> type, String description, Map<String, String> attributes)
+            throws NotCompliantMBeanException {
+        super(bean, type);
+        this.description = description;
+        this.attributes = attributes;
+    }
+
+    @Override
+    protected String getDescription(MBeanInfo info) {
+        return description;
+    }
+
+    @Override
+    protected String getDescription(MBeanAttributeInfo info) {
+        return attributes.getOrDefault(info.getName(), super.getDescription(info));
+    }
+}
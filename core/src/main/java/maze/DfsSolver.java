@@ -0,0 +1,51 @@
+package maze;
+
+import java.util.BitSet;
+
+public class DfsSolver implements MazeSolver {
+    @Override
+    public String name() {
+        return "DFS";
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        int n = graph.size();
+        int[] stack = new int[n];
+        int top = 0;
+        int[] parent = new int[n];
+        BitSet visited = new BitSet(n);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int expanded = 0, pushes = 1, peak = 1;
+
+        parent[start] = -1;
+        stack[top++] = start;
+        visited.set(start);
+
+        while (top > 0) {
+            int current = stack[--top];
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            if (current == end) {
+                int[] path = SolveResult.tracePath(parent, end);
+                return new SolveResult(name(), path, SolveResult.pathCost(graph, path),
+                        expanded, pushes, peak, System.nanoTime() - t0);
+            }
+
+            int degree = graph.neighbors(current, nb);
+            for (int k = 0; k < degree; k++) {
+                int neighbor = nb[k];
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    parent[neighbor] = current;
+                    stack[top++] = neighbor;
+                    pushes++;
+                }
+            }
+            peak = Math.max(peak, top);
+        }
+        return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+}
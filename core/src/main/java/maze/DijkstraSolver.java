@@ -0,0 +1,76 @@
+package maze;
+
+public class DijkstraSolver implements MazeSolver {
+    @Override
+    public String name() {
+        return "Dijkstra";
+    }
+
+    // Dijkstra murni = A* dengan heuristik nol
+    protected int heuristic(MazeView grid, int cell, int end) {
+        return 0;
+    }
+
+    // Kenaikan heuristik maksimum per langkah, untuk lebar bucket
+    protected int heuristicStep() {
+        return 0;
+    }
+
+    // Bucket queue untuk bobot kecil; binary heap bila rentangnya terlalu lebar
+    protected IntPriorityQueue createQueue(int n) {
+        int maxStep = MazeGrid.MAX_WEIGHT + heuristicStep();
+        if (maxStep < BucketQueue.MAX_WIDTH) return new BucketQueue(n, maxStep);
+        return new IntBinaryHeap(n);
+    }
+
+    // Buffer yang cocok dengan antrian solver ini, untuk dipakai ulang lintas query
+    public SearchBuffers createBuffers(int n) {
+        return new SearchBuffers(n, createQueue(n));
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        return solve(graph, start, end, listener, createBuffers(graph.size()));
+    }
+
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener, SearchBuffers buffers) {
+        long t0 = System.nanoTime();
+        MazeView grid = graph.getGrid();
+        buffers.begin();
+        IntPriorityQueue pq = buffers.queue;
+        int[] parent = buffers.parent;
+        int[] nb = buffers.nb;
+        int expanded = 0, pushes = 1, peak = 1;
+
+        buffers.reach(start, 0, -1);
+        pq.push(start, heuristic(grid, start, end));
+
+        while (!pq.isEmpty()) {
+            int current = pq.popMin();
+            buffers.close(current);
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            int currentDist = buffers.dist(current);
+            if (current == end) {
+                int[] path = SolveResult.tracePath(parent, end);
+                return new SolveResult(name(), path, currentDist, expanded, pushes, peak, System.nanoTime() - t0);
+            }
+
+            int degree = graph.neighbors(current, nb);
+            for (int k = 0; k < degree; k++) {
+                int neighbor = nb[k];
+                if (!buffers.isClosed(neighbor)) {
+                    int newDist = currentDist + graph.weight(neighbor);
+                    if (newDist < buffers.dist(neighbor)) {
+                        buffers.reach(neighbor, newDist, current);
+                        pq.push(neighbor, newDist + heuristic(grid, neighbor, end));
+                        pushes++;
+                    }
+                }
+            }
+            peak = Math.max(peak, pq.size());
+        }
+        return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+}
@@ -0,0 +1,112 @@
+package maze;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Algoritma Eller: maze dibangun baris demi baris dan hanya label set baris aktif
+ * yang disimpan, jadi memori O(cols) berapa pun jumlah barisnya.
+ */
+public class EllerGenerator {
+    private final int rows, cols;
+    // null = terrain diundi per sel dari rand
+    private final NoiseTerrain noise;
+
+    public EllerGenerator(int rows, int cols) {
+        this(rows, cols, null);
+    }
+
+    // Noise dihitung per sel saat barisnya dibuat, jadi memori tetap O(cols)
+    public EllerGenerator(int rows, int cols, NoiseTerrain noise) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid maze size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.noise = noise;
+    }
+
+    public void generate(Random rand, MazeRowSink sink) throws IOException {
+        int[] set = new int[cols];
+        int[] parent = new int[cols];
+        int[] members = new int[cols];
+        int[] chosen = new int[cols];
+        boolean[] down = new boolean[cols];
+        boolean[] openAbove = new boolean[cols];
+        byte[] walls = new byte[cols];
+        byte[] terrain = new byte[cols];
+
+        for (int c = 0; c < cols; c++) set[c] = c;
+
+        for (int r = 0; r < rows; r++) {
+            boolean lastRow = r == rows - 1;
+            for (int c = 0; c < cols; c++) {
+                parent[c] = c;
+                walls[c] = (byte) (MazeGrid.ALL_WALLS & ~(openAbove[c] ? MazeGrid.TOP : 0));
+            }
+
+            // Gabungkan sel bersebelahan dari set berbeda; baris terakhir wajib digabung semua
+            for (int c = 0; c < cols - 1; c++) {
+                int a = find(parent, set[c]), b = find(parent, set[c + 1]);
+                if (a != b && (lastRow || rand.nextBoolean())) {
+                    parent[b] = a;
+                    walls[c] &= ~MazeGrid.RIGHT;
+                    walls[c + 1] &= ~MazeGrid.LEFT;
+                }
+            }
+            for (int c = 0; c < cols; c++) set[c] = find(parent, set[c]);
+
+            if (!lastRow) {
+                // Tiap set harus turun minimal sekali; cadangan dipilih acak (reservoir sampling)
+                Arrays.fill(members, 0);
+                Arrays.fill(chosen, -1);
+                for (int c = 0; c < cols; c++) {
+                    int s = set[c];
+                    down[c] = rand.nextBoolean();
+                    if (down[c]) chosen[s] = -2;
+                    else if (chosen[s] != -2 && rand.nextInt(++members[s]) == 0) chosen[s] = c;
+                }
+                for (int c = 0; c < cols; c++) {
+                    int s = set[c];
+                    if (chosen[s] >= 0) {
+                        down[chosen[s]] = true;
+                        chosen[s] = -2;
+                    }
+                    if (down[c]) walls[c] &= ~MazeGrid.BOTTOM;
+                }
+            }
+
+            for (int c = 0; c < cols; c++) {
+                TerrainType t = TerrainAssigner.isEndpoint(r, c, rows, cols)
+                        ? TerrainType.STONE : noise != null ? noise.terrain(r, c) : TerrainAssigner.pick(rand);
+                terrain[c] = (byte) t.ordinal();
+            }
+            sink.acceptRow(r, walls, terrain);
+
+            if (!lastRow) nextRowLabels(set, down, members);
+            System.arraycopy(down, 0, openAbove, 0, cols);
+        }
+    }
+
+    // Sel yang tidak terhubung ke atas mendapat label baru yang sedang tidak dipakai
+    private void nextRowLabels(int[] set, boolean[] down, int[] used) {
+        Arrays.fill(used, 0);
+        for (int c = 0; c < cols; c++) if (down[c]) used[set[c]] = 1;
+        int free = 0;
+        for (int c = 0; c < cols; c++) {
+            if (down[c]) continue;
+            while (used[free] != 0) free++;
+            used[free] = 1;
+            set[c] = free;
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
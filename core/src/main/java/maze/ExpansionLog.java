@@ -0,0 +1,23 @@
+package maze;
+
+import java.util.Arrays;
+
+// Merekam urutan sel yang diekspansi supaya UI bisa memutar ulang animasinya
+public class ExpansionLog implements SolverListener {
+    private int[] cells = new int[64];
+    private int size;
+
+    @Override
+    public void onExpand(int cell) {
+        if (size == cells.length) cells = Arrays.copyOf(cells, size * 2);
+        cells[size++] = cell;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int i) {
+        return cells[i];
+    }
+}
@@ -0,0 +1,28 @@
+package maze;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("maze.Generate")
+@Label("Maze Generate")
+@Category({"Maze", "Generator"})
+class GenerateEvent extends Event {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Braid Ratio")
+    double braidRatio;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,63 @@
+package maze;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class GeneratorStats implements GeneratorStatsMBean {
+    private final String algorithm;
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder cells = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private volatile boolean allocationSupported = true;
+
+    public GeneratorStats(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    void record(int cellCount, long elapsedNanos, long allocatedBytes) {
+        generated.increment();
+        cells.add(cellCount);
+        nanos.add(elapsedNanos);
+        if (allocatedBytes < 0) allocationSupported = false;
+        else allocated.add(allocatedBytes);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public long getGenerateCount() {
+        return generated.sum();
+    }
+
+    @Override
+    public long getTotalCells() {
+        return cells.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return nanos.sum();
+    }
+
+    @Override
+    public double getNanosPerCell() {
+        long c = cells.sum();
+        return c == 0 ? 0 : (double) nanos.sum() / c;
+    }
+
+    @Override
+    public long getTotalAllocatedBytes() {
+        return allocationSupported ? allocated.sum() : -1;
+    }
+
+    @Override
+    public void reset() {
+        generated.reset();
+        cells.reset();
+        nanos.reset();
+        allocated.reset();
+    }
+}
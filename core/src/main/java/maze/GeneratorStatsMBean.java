@@ -0,0 +1,19 @@
+package maze;
+
+// Statistik kumulatif satu algoritma generator maze
+public interface GeneratorStatsMBean {
+    String getAlgorithm();
+
+    long getGenerateCount();
+
+    long getTotalCells();
+
+    long getTotalNanos();
+
+    double getNanosPerCell();
+
+    // -1 bila JVM tidak mendukung pengukuran alokasi per thread
+    long getTotalAllocatedBytes();
+
+    void reset();
+}
@@ -0,0 +1,282 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/*
+ * Graph abstrak untuk HPA*: grid dibagi cluster clusterSize x clusterSize. Setiap sel di
+ * tepi cluster yang punya bukaan ke cluster tetangga menjadi entrance; karena dinding
+ * maze membuat bukaan selebar satu sel, semua entrance disimpan (tanpa penggabungan)
+ * sehingga hasil pencarian abstrak tetap optimal. Per cluster disimpan sisi entrance ->
+ * entrance dari Dijkstra terbatas di dalam cluster itu; sisi yang jalur terpendeknya sudah
+ * melewati entrance lain dibuang karena biayanya tercakup oleh dua sisi yang lebih pendek
+ * (seri diputus dengan jumlah langkah terkecil, supaya sel stone berbobot 0 tetap aman).
+ * Sisi antar-cluster tidak disimpan: dibaca langsung dari dinding, biayanya weight(tujuan).
+ */
+public class HierarchicalGraph implements MazeChangeListener {
+    public static final int DEFAULT_CLUSTER_SIZE = 32;
+    // Kunci lokal = biaya * clusterSize^2 + langkah harus muat di int
+    public static final int MAX_CLUSTER_SIZE = 64;
+    static final int INF = Integer.MAX_VALUE;
+
+    private final WeightedGraph graph;
+    private final MazeView grid;
+    private final int clusterSize;
+    private final int clusterRows, clusterCols;
+    // Per cluster: sel entrance dan sisi intra-cluster dalam CSR per entrance
+    private final int[][] entrances;
+    private final int[][] offsets;
+    private final int[][] targets;
+    private final int[][] costs;
+    // Sel -> indeks entrance di cluster-nya, -1 bila bukan entrance
+    private final int[] entranceIndex;
+
+    public HierarchicalGraph(WeightedGraph graph) {
+        this(graph, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalGraph(WeightedGraph graph, int clusterSize) {
+        if (clusterSize < 1 || clusterSize > MAX_CLUSTER_SIZE) {
+            throw new IllegalArgumentException("clusterSize out of range: " + clusterSize);
+        }
+        this.graph = graph;
+        this.grid = graph.getGrid();
+        this.clusterSize = clusterSize;
+        clusterRows = (grid.rows() + clusterSize - 1) / clusterSize;
+        clusterCols = (grid.cols() + clusterSize - 1) / clusterSize;
+        entrances = new int[clusterRows * clusterCols][];
+        offsets = new int[entrances.length][];
+        targets = new int[entrances.length][];
+        costs = new int[entrances.length][];
+        entranceIndex = new int[graph.size()];
+        Arrays.fill(entranceIndex, -1);
+
+        // Cluster saling lepas: tiap cluster hanya menulis entrance miliknya sendiri
+        IntStream.range(0, entrances.length).parallel().forEach(c -> build(c, new ClusterSearch(this)));
+    }
+
+    public WeightedGraph getGraph() {
+        return graph;
+    }
+
+    public int clusterSize() {
+        return clusterSize;
+    }
+
+    public int clusterCount() {
+        return entrances.length;
+    }
+
+    public int cluster(int cell) {
+        return (grid.row(cell) / clusterSize) * clusterCols + grid.col(cell) / clusterSize;
+    }
+
+    public int entranceCount() {
+        int total = 0;
+        for (int[] e : entrances) total += e.length;
+        return total;
+    }
+
+    public int edgeCount() {
+        int total = 0;
+        for (int[] t : targets) total += t.length;
+        return total;
+    }
+
+    // Hitung ulang satu cluster setelah dinding/terrain di dalamnya berubah
+    public void rebuildCluster(int cluster) {
+        build(cluster, new ClusterSearch(this));
+    }
+
+    /*
+     * Hitung ulang cluster yang terdampak perubahan pada sel ini. Perubahan terrain atau
+     * dinding di dalam cluster hanya menyentuh cluster itu; dinding di tepi cluster juga
+     * mengubah entrance cluster tetangga di seberangnya.
+     */
+    public void invalidate(int cell) {
+        int c = cluster(cell);
+        ClusterSearch search = new ClusterSearch(this);
+        build(c, search);
+        int r = grid.row(cell), col = grid.col(cell);
+        int[][] deltas = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
+        for (int[] d : deltas) {
+            int nr = r + d[0], nc = col + d[1];
+            if (nr < 0 || nr >= grid.rows() || nc < 0 || nc >= grid.cols()) continue;
+            int other = cluster(grid.id(nr, nc));
+            if (other != c) build(other, search);
+        }
+    }
+
+    // Didaftarkan ke MazeGrid.addChangeListener supaya cluster ikut diperbarui saat maze diedit
+    @Override
+    public void cellChanged(int cell) {
+        invalidate(cell);
+    }
+
+    private void build(int cluster, ClusterSearch search) {
+        if (entrances[cluster] != null) {
+            for (int cell : entrances[cluster]) entranceIndex[cell] = -1;
+        }
+        int r0 = (cluster / clusterCols) * clusterSize, c0 = (cluster % clusterCols) * clusterSize;
+        int r1 = Math.min(r0 + clusterSize, grid.rows()), c1 = Math.min(c0 + clusterSize, grid.cols());
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int[] found = new int[4 * clusterSize];
+        int k = 0;
+        for (int r = r0; r < r1; r++) {
+            for (int c = c0; c < c1; c++) {
+                if (r != r0 && r != r1 - 1 && c != c0 && c != c1 - 1) continue;
+                int cell = grid.id(r, c);
+                int degree = graph.neighbors(cell, nb);
+                for (int i = 0; i < degree; i++) {
+                    if (cluster(nb[i]) != cluster) {
+                        entranceIndex[cell] = k;
+                        found[k++] = cell;
+                        break;
+                    }
+                }
+            }
+        }
+        int[] cells = Arrays.copyOf(found, k);
+        int[] off = new int[k + 1];
+        int[] tgt = new int[k * k];
+        int[] cost = new int[k * k];
+        int e = 0;
+        for (int i = 0; i < k; i++) {
+            off[i] = e;
+            search.run(cells[i], -1);
+            for (int j = 0; j < k; j++) {
+                if (j == i || search.dist(cells[j]) == INF || search.viaEntrance(cells[j])) continue;
+                tgt[e] = j;
+                cost[e] = search.dist(cells[j]);
+                e++;
+            }
+        }
+        off[k] = e;
+        offsets[cluster] = off;
+        targets[cluster] = Arrays.copyOf(tgt, e);
+        costs[cluster] = Arrays.copyOf(cost, e);
+        entrances[cluster] = cells;
+    }
+
+    int[] entrances(int cluster) {
+        return entrances[cluster];
+    }
+
+    int edgeFrom(int cluster, int entrance) {
+        return offsets[cluster][entrance];
+    }
+
+    int edgeTo(int cluster, int entrance) {
+        return offsets[cluster][entrance + 1];
+    }
+
+    // Indeks entrance tujuan di cluster yang sama
+    int target(int cluster, int edge) {
+        return targets[cluster][edge];
+    }
+
+    int cost(int cluster, int edge) {
+        return costs[cluster][edge];
+    }
+
+    int entranceIndex(int cell) {
+        return entranceIndex[cell];
+    }
+
+    /*
+     * Dijkstra yang dibatasi satu cluster, dengan array lokal seukuran cluster. Kunci
+     * (biaya, langkah) leksikografis: di antara jalur sama murah dipilih yang terpendek.
+     * Dipakai untuk praproses, menyambungkan start/end, dan menyempurnakan path abstrak.
+     */
+    static final class ClusterSearch {
+        private final HierarchicalGraph h;
+        private final int size, stride;
+        private final int[] dist, steps, parent, seen;
+        // Jalur terpilih ke sel ini melewati entrance selain source
+        private final boolean[] via;
+        private final IntPriorityQueue pq;
+        private final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        private int epoch, source, cluster, r0, c0;
+
+        ClusterSearch(HierarchicalGraph h) {
+            this.h = h;
+            size = h.clusterSize;
+            stride = size * size;
+            dist = new int[stride];
+            steps = new int[stride];
+            parent = new int[stride];
+            seen = new int[stride];
+            via = new boolean[stride];
+            pq = new IntBinaryHeap(stride);
+        }
+
+        private int local(int cell) {
+            return (h.grid.row(cell) - r0) * size + (h.grid.col(cell) - c0);
+        }
+
+        private int global(int local) {
+            return h.grid.id(r0 + local / size, c0 + local % size);
+        }
+
+        // Jarak dari source ke seluruh sel cluster; berhenti lebih awal bila stop di-pop
+        void run(int source, int stop) {
+            this.source = source;
+            cluster = h.cluster(source);
+            r0 = (cluster / h.clusterCols) * size;
+            c0 = (cluster % h.clusterCols) * size;
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                epoch = 1;
+            }
+            pq.clear();
+            int s = local(source);
+            seen[s] = epoch;
+            dist[s] = 0;
+            steps[s] = 0;
+            parent[s] = -1;
+            via[s] = false;
+            pq.push(s, 0);
+            while (!pq.isEmpty()) {
+                int u = pq.popMin();
+                int cell = global(u);
+                if (cell == stop) return;
+                boolean throughU = via[u] || (cell != source && h.entranceIndex[cell] >= 0);
+                int degree = h.graph.neighbors(cell, nb);
+                for (int i = 0; i < degree; i++) {
+                    int v = nb[i];
+                    if (h.cluster(v) != cluster) continue;
+                    int lv = local(v);
+                    int nd = dist[u] + h.graph.weight(v), ns = steps[u] + 1;
+                    if (seen[lv] != epoch || nd < dist[lv] || (nd == dist[lv] && ns < steps[lv])) {
+                        seen[lv] = epoch;
+                        dist[lv] = nd;
+                        steps[lv] = ns;
+                        parent[lv] = u;
+                        via[lv] = throughU;
+                        pq.push(lv, nd * stride + ns);
+                    }
+                }
+            }
+        }
+
+        int dist(int cell) {
+            if (h.cluster(cell) != cluster) return INF;
+            int l = local(cell);
+            return seen[l] == epoch ? dist[l] : INF;
+        }
+
+        boolean viaEntrance(int cell) {
+            return via[local(cell)];
+        }
+
+        // Path source -> cell di dalam cluster, tanpa source
+        int[] path(int cell) {
+            int length = 0;
+            for (int l = local(cell); parent[l] != -1; l = parent[l]) length++;
+            int[] out = new int[length];
+            int i = length - 1;
+            for (int l = local(cell); parent[l] != -1; l = parent[l]) out[i--] = global(l);
+            return out;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * HPA*: Dijkstra di graph abstrak (entrance + start + end), lalu tiap hop di dalam
+ * cluster disempurnakan dengan pencarian lokal. Start disambung ke entrance cluster-nya
+ * dengan satu Dijkstra lokal; end juga, memakai d(e, end) = d(end, e) - weight(e) +
+ * weight(end) (jalur terbalik di cluster yang sama). Karena semua bukaan antar-cluster
+ * adalah entrance dan biaya intra-cluster eksak, biaya hasilnya sama dengan Dijkstra penuh.
+ * Start/end juga disambung ke semua entrance (tanpa pemangkasan); itu hanya dua cluster.
+ */
+public class HierarchicalSolver implements MazeSolver {
+    private static final int INF = HierarchicalGraph.INF;
+
+    private final HierarchicalGraph hierarchy;
+
+    public HierarchicalSolver(HierarchicalGraph hierarchy) {
+        this.hierarchy = hierarchy;
+    }
+
+    @Override
+    public String name() {
+        return "HPA*";
+    }
+
+    public SearchBuffers createBuffers(int n) {
+        return new SearchBuffers(n, new IntBinaryHeap(n));
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        return solve(graph, start, end, listener, createBuffers(graph.size()));
+    }
+
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener, SearchBuffers buffers) {
+        if (graph != hierarchy.getGraph()) {
+            throw new IllegalArgumentException("HierarchicalGraph was built for a different graph");
+        }
+        long t0 = System.nanoTime();
+        HierarchicalGraph.ClusterSearch local = new HierarchicalGraph.ClusterSearch(hierarchy);
+        int startCluster = hierarchy.cluster(start), endCluster = hierarchy.cluster(end);
+        int[] startEntrances = hierarchy.entrances(startCluster);
+        int[] endEntrances = hierarchy.entrances(endCluster);
+
+        // Biaya start -> entrance (dan start -> end bila satu cluster)
+        local.run(start, -1);
+        int[] fromStart = new int[startEntrances.length];
+        for (int i = 0; i < fromStart.length; i++) fromStart[i] = local.dist(startEntrances[i]);
+        int direct = local.dist(end);
+
+        // Biaya entrance -> end
+        local.run(end, -1);
+        int[] toEnd = new int[endEntrances.length];
+        for (int i = 0; i < toEnd.length; i++) {
+            int d = local.dist(endEntrances[i]);
+            toEnd[i] = d == INF ? INF : d - graph.weight(endEntrances[i]) + graph.weight(end);
+        }
+
+        buffers.begin();
+        IntPriorityQueue pq = buffers.queue;
+        int[] nb = buffers.nb;
+        int expanded = 0, pushes = 1, peak = 1;
+        buffers.reach(start, 0, -1);
+        pq.push(start, 0);
+
+        while (!pq.isEmpty()) {
+            int u = pq.popMin();
+            buffers.close(u);
+            expanded++;
+            if (listener != null) listener.onExpand(u);
+            int du = buffers.dist(u);
+            if (u == end) {
+                int[] path = refine(graph, start, end, buffers.parent, local);
+                return new SolveResult(name(), path, du, expanded, pushes, peak, System.nanoTime() - t0);
+            }
+
+            int cluster = hierarchy.cluster(u);
+            if (u == start) {
+                for (int i = 0; i < startEntrances.length; i++) {
+                    pushes += relax(buffers, u, startEntrances[i], du, fromStart[i]);
+                }
+                pushes += relax(buffers, u, end, du, direct);
+            }
+            int index = hierarchy.entranceIndex(u);
+            if (index >= 0) {
+                int[] cells = hierarchy.entrances(cluster);
+                for (int e = hierarchy.edgeFrom(cluster, index), last = hierarchy.edgeTo(cluster, index); e < last; e++) {
+                    pushes += relax(buffers, u, cells[hierarchy.target(cluster, e)], du, hierarchy.cost(cluster, e));
+                }
+                int degree = graph.neighbors(u, nb);
+                for (int i = 0; i < degree; i++) {
+                    if (hierarchy.cluster(nb[i]) != cluster) pushes += relax(buffers, u, nb[i], du, graph.weight(nb[i]));
+                }
+                if (cluster == endCluster) {
+                    int j = indexOf(endEntrances, u);
+                    pushes += relax(buffers, u, end, du, toEnd[j]);
+                }
+            }
+            peak = Math.max(peak, pq.size());
+        }
+        return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+
+    private static int relax(SearchBuffers buffers, int u, int v, int du, int cost) {
+        if (cost == INF || buffers.isClosed(v)) return 0;
+        int nd = du + cost;
+        if (nd >= buffers.dist(v)) return 0;
+        buffers.reach(v, nd, u);
+        buffers.queue.push(v, nd);
+        return 1;
+    }
+
+    private int indexOf(int[] cells, int cell) {
+        int index = hierarchy.entranceIndex(cell);
+        if (index >= 0 && index < cells.length && cells[index] == cell) return index;
+        throw new IllegalStateException("Cell " + cell + " is not an entrance");
+    }
+
+    // Path abstrak -> path sel: hop antar-cluster bersebelahan, hop dalam cluster dicari lokal
+    private int[] refine(WeightedGraph graph, int start, int end, int[] parent, HierarchicalGraph.ClusterSearch local) {
+        int hops = 0;
+        for (int c = end; c != start; c = parent[c]) hops++;
+        int[] abstractPath = new int[hops + 1];
+        for (int c = end, i = hops; i >= 0; c = parent[c]) abstractPath[i--] = c;
+
+        int[] path = new int[Math.max(16, hops + 1)];
+        path[0] = start;
+        int size = 1;
+        for (int i = 1; i <= hops; i++) {
+            int from = abstractPath[i - 1], to = abstractPath[i];
+            int[] segment;
+            if (hierarchy.cluster(from) != hierarchy.cluster(to)) {
+                segment = new int[] { to };
+            } else {
+                local.run(from, to);
+                segment = local.path(to);
+            }
+            if (size + segment.length > path.length) path = Arrays.copyOf(path, Math.max(path.length * 2, size + segment.length));
+            System.arraycopy(segment, 0, path, size, segment.length);
+            size += segment.length;
+        }
+        return Arrays.copyOf(path, size);
+    }
+}
@@ -0,0 +1,189 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * LPA* (Lifelong Planning A*) untuk start/end tetap. g[] dan rhs[] disimpan antar-solve;
+ * perubahan dinding/terrain yang dilaporkan lewat MazeChangeListener hanya menandai sel
+ * terkait sebagai tidak konsisten, dan solve berikutnya hanya memproses ulang sel yang
+ * jaraknya benar-benar terdampak. Masuk ke sel v berbiaya weight(v) dari tetangga mana
+ * pun, jadi rhs(v) = cost(v) + min g(tetangga).
+ * LPA* butuh biaya sisi positif, sedangkan stone berbobot 0: dua sel stone yang terputus
+ * akan saling menopang g lamanya. Karena itu biaya internal = weight * n + 1 (biaya, lalu
+ * jumlah langkah sebagai pemutus seri) dalam long. Heuristik nol supaya tetap konsisten
+ * setelah edit apa pun. Graph harus implisit (bukan CSR) supaya dinding baru langsung terbaca.
+ * Bila solver membaca MazeSnapshot, tiap edit menghasilkan graph baru; graphChanged()
+ * menyerahkan graph itu bersama sel yang berubah supaya state lama tetap dipakai.
+ */
+public class IncrementalSolver implements MazeSolver, MazeChangeListener {
+    private static final long INF = Long.MAX_VALUE;
+    // Batas n supaya biaya komposit (MAX_WEIGHT * n + 1) * n tidak overflow
+    private static final long MAX_CELLS = (long) Math.sqrt(Long.MAX_VALUE / (MazeGrid.MAX_WEIGHT + 1));
+
+    private WeightedGraph graph;
+    private int start = -1, end = -1;
+    private long scale;
+    private long[] g, rhs;
+    private IntBinaryHeap open;
+    private final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+    private final int[] scan = new int[WeightedGraph.MAX_DEGREE];
+    private int expanded, pushes, peak;
+    private long lookups;
+
+    // Sel berubah yang belum diproses; dikunci terpisah supaya notifikasi di EDT tidak
+    // menunggu solve yang sedang berjalan
+    private final Object pendingLock = new Object();
+    private int[] pending = new int[16];
+    private int pendingSize;
+    private WeightedGraph pendingGraph;
+
+    @Override
+    public String name() {
+        return "LPA*";
+    }
+
+    // Cukup satu sisi dinding yang dilaporkan: solve memperbarui sel itu beserta tetangga gridnya
+    @Override
+    public void cellChanged(int cell) {
+        synchronized (pendingLock) {
+            addPending(cell);
+        }
+    }
+
+    // next adalah versi baru maze yang sama (mis. snapshot setelah edit) yang berbeda di cells
+    public void graphChanged(WeightedGraph next, int... cells) {
+        synchronized (pendingLock) {
+            pendingGraph = next;
+            for (int cell : cells) addPending(cell);
+        }
+    }
+
+    private void addPending(int cell) {
+        if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pendingSize * 2);
+        pending[pendingSize++] = cell;
+    }
+
+    @Override
+    public synchronized SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        int[] changed;
+        WeightedGraph next;
+        synchronized (pendingLock) {
+            changed = Arrays.copyOf(pending, pendingSize);
+            pendingSize = 0;
+            next = pendingGraph;
+            pendingGraph = null;
+        }
+        if (next != null && this.graph != null && next.size() == this.graph.size()) this.graph = next;
+        expanded = 0;
+        pushes = 0;
+        peak = 0;
+        lookups = 0;
+        if (graph != this.graph || start != this.start || end != this.end) {
+            initialize(graph, start, end);
+        } else {
+            for (int cell : changed) updateAround(cell);
+        }
+
+        try {
+            computeShortestPath(listener);
+        } catch (RuntimeException | Error e) {
+            // Dibatalkan di tengah ekspansi: open/g tidak lagi konsisten, mulai dari nol berikutnya
+            this.graph = null;
+            throw e;
+        }
+        if (g[end] == INF) return SolveResult.notFound(name(), expanded, pushes, expanded, lookups, peak, System.nanoTime() - t0);
+        return new SolveResult(name(), extractPath(), (int) (g[end] / scale), expanded, pushes, expanded, lookups, peak,
+                System.nanoTime() - t0);
+    }
+
+    private void initialize(WeightedGraph graph, int start, int end) {
+        int n = graph.size();
+        if (n > MAX_CELLS) throw new IllegalArgumentException("Maze too large for LPA*: " + n + " cells");
+        this.graph = graph;
+        this.start = start;
+        this.end = end;
+        scale = n;
+        g = new long[n];
+        rhs = new long[n];
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open = new IntBinaryHeap(n);
+        rhs[start] = 0;
+        open.push(start, 0);
+        pushes++;
+    }
+
+    private long cost(int v) {
+        return graph.weight(v) * scale + 1;
+    }
+
+    private long key(int v) {
+        return Math.min(g[v], rhs[v]);
+    }
+
+    private void updateVertex(int v) {
+        if (v != start) {
+            long best = INF;
+            int degree = graph.neighbors(v, scan);
+            lookups++;
+            for (int i = 0; i < degree; i++) best = Math.min(best, g[scan[i]]);
+            rhs[v] = best == INF ? INF : best + cost(v);
+        }
+        if (g[v] != rhs[v]) {
+            open.push(v, key(v));
+            pushes++;
+        } else if (open.contains(v)) {
+            open.remove(v);
+        }
+    }
+
+    // Dinding yang berubah memengaruhi rhs kedua sisinya, jadi tetangga grid (tanpa melihat dinding,
+    // yang mungkin baru ditutup) ikut diperbarui; terrain hanya memengaruhi sel itu sendiri
+    private void updateAround(int cell) {
+        MazeView grid = graph.getGrid();
+        int row = grid.row(cell), col = grid.col(cell), cols = grid.cols();
+        updateVertex(cell);
+        if (row > 0) updateVertex(cell - cols);
+        if (row < grid.rows() - 1) updateVertex(cell + cols);
+        if (col > 0) updateVertex(cell - 1);
+        if (col < cols - 1) updateVertex(cell + 1);
+    }
+
+    private void computeShortestPath(SolverListener listener) {
+        while (!open.isEmpty() && (open.peekKey() < key(end) || rhs[end] != g[end])) {
+            int u = open.popMin();
+            expanded++;
+            if (listener != null) listener.onExpand(u);
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+            }
+            int degree = graph.neighbors(u, nb);
+            lookups++;
+            for (int i = 0; i < degree; i++) updateVertex(nb[i]);
+            peak = Math.max(peak, open.size());
+        }
+    }
+
+    // Mundur dari end lewat sisi ketat; g turun tegas tiap langkah, dan g % scale = jumlah langkah
+    private int[] extractPath() {
+        int[] path = new int[(int) (g[end] % scale) + 1];
+        int u = end;
+        for (int i = path.length - 1; i > 0; i--) {
+            path[i] = u;
+            long target = g[u] - cost(u);
+            int degree = graph.neighbors(u, nb);
+            int next = -1;
+            for (int k = 0; k < degree && next < 0; k++) {
+                if (g[nb[k]] == target) next = nb[k];
+            }
+            if (next < 0) throw new IllegalStateException("g values are inconsistent at cell " + u);
+            u = next;
+        }
+        path[0] = u;
+        return path;
+    }
+}
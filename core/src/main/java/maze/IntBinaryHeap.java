@@ -0,0 +1,128 @@
+package maze;
+
+import java.util.Arrays;
+
+// Binary heap ber-indeks; fallback untuk tabel bobot dengan rentang besar. Prioritas disimpan
+// sebagai long supaya kunci komposit LPA* (IncrementalSolver) memakai heap yang sama
+public class IntBinaryHeap implements IntPriorityQueue {
+    private final int[] heap;
+    private final int[] pos;
+    private final long[] prio;
+    private int size;
+
+    public IntBinaryHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        prio = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    @Override
+    public void push(int id, int priority) {
+        push(id, (long) priority);
+    }
+
+    public void push(int id, long priority) {
+        int i = pos[id];
+        prio[id] = priority;
+        if (i < 0) {
+            i = size++;
+            heap[i] = id;
+            pos[id] = i;
+            siftUp(i);
+        } else {
+            siftDown(siftUp(i));
+        }
+    }
+
+    @Override
+    public int popMin() {
+        int id = heap[0];
+        removeAt(0);
+        return id;
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    @Override
+    public int peekPriority() {
+        return (int) prio[heap[0]];
+    }
+
+    public long peekKey() {
+        return prio[heap[0]];
+    }
+
+    public void remove(int id) {
+        int i = pos[id];
+        if (i >= 0) removeAt(i);
+    }
+
+    private void removeAt(int i) {
+        int id = heap[i];
+        pos[id] = -1;
+        int last = heap[--size];
+        if (i < size) {
+            heap[i] = last;
+            pos[last] = i;
+            siftDown(siftUp(i));
+        }
+    }
+
+    private int siftUp(int i) {
+        int id = heap[i];
+        long p = prio[id];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int pid = heap[parent];
+            if (prio[pid] <= p) break;
+            heap[i] = pid;
+            pos[pid] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        pos[id] = i;
+        return i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        long p = prio[id];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && prio[heap[right]] < prio[heap[child]]) child = right;
+            int cid = heap[child];
+            if (p <= prio[cid]) break;
+            heap[i] = cid;
+            pos[cid] = i;
+            i = child;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return pos[id] >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+}
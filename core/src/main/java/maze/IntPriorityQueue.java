@@ -0,0 +1,19 @@
+package maze;
+
+// Antrian prioritas atas id sel (int) dengan prioritas int, tanpa objek Node
+public interface IntPriorityQueue {
+    // Masukkan id, atau perbarui prioritasnya jika sudah ada di antrian
+    void push(int id, int priority);
+
+    int popMin();
+
+    int peekPriority();
+
+    boolean contains(int id);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+}
@@ -0,0 +1,238 @@
+package maze;
+
+/*
+ * Graph junction untuk pencarian di maze yang didominasi koridor dan jalan buntu.
+ * 1. Pohon jalan buntu dikupas (leaf peeling): jalur terpendek tidak pernah masuk ke
+ *    cabang buntu kecuali start/end ada di dalamnya, jadi cukup simpan up[] (sel menuju
+ *    core) dan depth[] untuk menyambungkan query lewat LCA.
+ * 2. Di sisa core, sel berderajat 2 (koridor) dirapatkan menjadi satu sisi antar junction
+ *    (derajat core != 2). Tiap sisi menyimpan jumlah bobot sel di dalam koridornya (tanpa
+ *    kedua ujung); biaya u -> v = inner + weight(v) dan v -> u = inner + weight(u), sesuai
+ *    aturan "masuk ke sel berbiaya bobotnya".
+ * Sel koridor tidak disimpan per sisi: path diekspansi ulang dengan menyusuri koridornya
+ * dari sel langkah pertama yang dicatat per sisi.
+ */
+public class JunctionGraph {
+    static final int CORRIDOR = -1, PRUNED = -2;
+
+    private final WeightedGraph graph;
+    // node -> sel; sel -> node, CORRIDOR untuk koridor core, PRUNED untuk cabang buntu
+    private final int[] cellOf;
+    private final int[] nodeOf;
+    // Cabang buntu: langkah menuju core (-1 di akar) dan jaraknya dalam jumlah sel
+    private final int[] up;
+    private final int[] depth;
+    // CSR sisi keluar per node
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inner;
+    private final int[] first;
+    private final int[] length;
+    private int maxEdgeCost;
+
+    public JunctionGraph(WeightedGraph graph) {
+        this.graph = graph;
+        int n = graph.size();
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        nodeOf = new int[n];
+        up = new int[n];
+        depth = new int[n];
+        peel(nb);
+
+        int m = 0, degreeSum = 0;
+        for (int id = 0; id < n; id++) {
+            if (nodeOf[id] == PRUNED) continue;
+            int degree = coreNeighbors(id, nb);
+            if (degree == 2) {
+                nodeOf[id] = CORRIDOR;
+            } else {
+                nodeOf[id] = m++;
+                degreeSum += degree;
+            }
+        }
+        cellOf = new int[m];
+        for (int id = 0; id < n; id++) {
+            if (nodeOf[id] >= 0) cellOf[nodeOf[id]] = id;
+        }
+
+        offsets = new int[m + 1];
+        targets = new int[degreeSum];
+        inner = new int[degreeSum];
+        first = new int[degreeSum];
+        length = new int[degreeSum];
+        Walk walk = new Walk();
+        int e = 0;
+        for (int u = 0; u < m; u++) {
+            offsets[u] = e;
+            int cell = cellOf[u];
+            int degree = coreNeighbors(cell, nb);
+            for (int k = 0; k < degree; k++) {
+                walk(cell, nb[k], -1, walk);
+                targets[e] = nodeOf[walk.cell];
+                inner[e] = walk.cost;
+                first[e] = nb[k];
+                length[e] = walk.steps;
+                maxEdgeCost = Math.max(maxEdgeCost, edgeCost(e));
+                e++;
+            }
+        }
+        offsets[m] = e;
+    }
+
+    // Kupas daun berulang; sisa yang tidak terkupas adalah 2-core
+    private void peel(int[] nb) {
+        int n = graph.size();
+        // Derajat terhadap sel yang belum dikupas; -1 setelah sel dikupas
+        int[] degree = new int[n];
+        int[] order = new int[n];
+        int head = 0, tail = 0;
+        for (int id = 0; id < n; id++) {
+            up[id] = -1;
+            degree[id] = graph.neighbors(id, nb);
+            if (degree[id] <= 1) {
+                order[tail++] = id;
+                nodeOf[id] = PRUNED;
+            }
+        }
+        while (head < tail) {
+            int c = order[head++];
+            int k = graph.neighbors(c, nb);
+            for (int i = 0; i < k; i++) {
+                int p = nb[i];
+                if (degree[p] < 0) continue;
+                // Paling banyak satu tetangga yang tersisa: itulah arah ke core
+                up[c] = p;
+                if (--degree[p] == 1 && nodeOf[p] != PRUNED) {
+                    order[tail++] = p;
+                    nodeOf[p] = PRUNED;
+                }
+            }
+            degree[c] = -1;
+        }
+        // Urutan terbalik: parent selalu dikupas setelah anaknya
+        for (int i = tail - 1; i >= 0; i--) {
+            int c = order[i];
+            int p = up[c];
+            depth[c] = p < 0 ? 0 : nodeOf[p] == PRUNED ? depth[p] + 1 : 1;
+        }
+    }
+
+    public WeightedGraph getGraph() {
+        return graph;
+    }
+
+    public int nodeCount() {
+        return cellOf.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int cell(int node) {
+        return cellOf[node];
+    }
+
+    // Node untuk sel ini; CORRIDOR di tengah koridor core, PRUNED di cabang buntu
+    public int node(int cell) {
+        return nodeOf[cell];
+    }
+
+    // Sel berikutnya menuju core dari cabang buntu (-1 di core atau akar komponen pohon)
+    int up(int cell) {
+        return up[cell];
+    }
+
+    int depth(int cell) {
+        return depth[cell];
+    }
+
+    // Tetangga yang termasuk core
+    int coreNeighbors(int id, int[] out) {
+        int k = graph.neighbors(id, out), degree = 0;
+        for (int i = 0; i < k; i++) {
+            if (nodeOf[out[i]] != PRUNED) out[degree++] = out[i];
+        }
+        return degree;
+    }
+
+    int edgeFrom(int node) {
+        return offsets[node];
+    }
+
+    int edgeTo(int node) {
+        return offsets[node + 1];
+    }
+
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    int firstStep(int edge) {
+        return first[edge];
+    }
+
+    // Jumlah sel di dalam koridor sisi ini
+    int edgeLength(int edge) {
+        return length[edge];
+    }
+
+    int edgeCost(int edge) {
+        return inner[edge] + graph.weight(cellOf[targets[edge]]);
+    }
+
+    public int maxEdgeCost() {
+        return maxEdgeCost;
+    }
+
+    // Hasil susur koridor: sel tempat berhenti, bobot sel yang dilewati (tanpa kedua
+    // ujung), jumlahnya, dan sel terakhir sebelum berhenti
+    static final class Walk {
+        final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int cell, cost, steps, last;
+    }
+
+    /*
+     * Susuri koridor core dari origin lewat sel step sampai bertemu node atau stop.
+     * walk.cell = -1 bila koridornya berputar kembali ke origin tanpa junction.
+     */
+    void walk(int origin, int step, int stop, Walk walk) {
+        int[] nb = walk.nb;
+        int prev = origin, cur = step, cost = 0, steps = 0;
+        while (cur != stop && nodeOf[cur] == CORRIDOR) {
+            if (cur == origin) {
+                walk.cell = -1;
+                return;
+            }
+            cost += graph.weight(cur);
+            steps++;
+            coreNeighbors(cur, nb);
+            int next = nb[0] == prev ? nb[1] : nb[0];
+            prev = cur;
+            cur = next;
+        }
+        walk.cell = cur;
+        walk.cost = cost;
+        walk.steps = steps;
+        walk.last = prev;
+    }
+
+    // Tambahkan sel koridor dari (from, step) sampai to (inklusif, from tidak ikut)
+    int expand(int from, int step, int to, int[] out, int size, int[] nb) {
+        int prev = from, cur = step;
+        while (cur != to) {
+            out[size++] = cur;
+            coreNeighbors(cur, nb);
+            int next = nb[0] == prev ? nb[1] : nb[0];
+            prev = cur;
+            cur = next;
+        }
+        out[size++] = to;
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "JunctionGraph: " + graph.size() + " cells -> " + nodeCount() + " nodes, " + edgeCount() + " edges";
+    }
+}
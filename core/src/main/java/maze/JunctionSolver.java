@@ -0,0 +1,189 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/*
+ * Dijkstra di atas JunctionGraph. Start/end di cabang buntu dinaikkan lewat up[] ke
+ * akarnya di core (atau bertemu di LCA bila satu cabang). Akar yang berada di tengah
+ * koridor disambung saat query dengan menyusuri koridornya ke kedua junction ujung;
+ * end koridor menjadi node virtual (indeks m). Listener hanya menerima sel junction.
+ */
+public class JunctionSolver implements MazeSolver {
+    private final JunctionGraph junctions;
+
+    public JunctionSolver(JunctionGraph junctions) {
+        this.junctions = junctions;
+    }
+
+    @Override
+    public String name() {
+        return "Dijkstra (junctions)";
+    }
+
+    // Sisi koridor bisa jauh lebih mahal dari satu sel; bucket hanya bila rentangnya muat
+    private IntPriorityQueue createQueue(int n) {
+        int maxStep = junctions.maxEdgeCost();
+        if (maxStep < BucketQueue.MAX_WIDTH) return new BucketQueue(n, maxStep);
+        return new IntBinaryHeap(n);
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        if (graph != junctions.getGraph()) {
+            throw new IllegalArgumentException("JunctionGraph was built for a different graph");
+        }
+        long t0 = System.nanoTime();
+        // Naik dari kedua ujung sampai bertemu (satu cabang buntu) atau sampai akar masing-masing
+        int a = start, b = end;
+        while (junctions.depth(a) > junctions.depth(b)) a = junctions.up(a);
+        while (junctions.depth(b) > junctions.depth(a)) b = junctions.up(b);
+        while (a != b && junctions.depth(a) > 0) {
+            a = junctions.up(a);
+            b = junctions.up(b);
+        }
+        if (a == b) {
+            int[] path = join(start, end, a, a, new int[] { a });
+            return new SolveResult(name(), path, SolveResult.pathCost(graph, path), 0, 0, 0, System.nanoTime() - t0);
+        }
+        if (junctions.node(a) == JunctionGraph.PRUNED || junctions.node(b) == JunctionGraph.PRUNED) {
+            // Akar pohon tanpa core: komponen berbeda
+            return SolveResult.notFound(name(), 0, 0, 0, System.nanoTime() - t0);
+        }
+        int from = a, to = b;
+
+        int m = junctions.nodeCount();
+        int virtual = m;
+        int target = junctions.node(to) >= 0 ? junctions.node(to) : virtual;
+        int[] dist = new int[m + 1];
+        int[] parent = new int[m + 1];
+        // via >= 0: indeks sisi; via <= -2: sel langkah pertama (-(via + 2)); -1: akar
+        int[] via = new int[m + 1];
+        int[] span = new int[m + 1];
+        BitSet closed = new BitSet(m + 1);
+        IntPriorityQueue pq = createQueue(m + 1);
+        JunctionGraph.Walk walk = new JunctionGraph.Walk();
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int expanded = 0, pushes = 0, peak = 0;
+        Arrays.fill(dist, Integer.MAX_VALUE);
+
+        // Sambungan junction -> end untuk end di tengah koridor (paling banyak dua)
+        int[] endNode = new int[2], endStep = new int[2], endCost = new int[2], endSpan = new int[2];
+        int endLinks = 0;
+        if (target == virtual) {
+            int degree = junctions.coreNeighbors(to, nb);
+            for (int k = 0; k < degree; k++) {
+                junctions.walk(to, nb[k], -1, walk);
+                if (walk.cell < 0) continue;
+                endNode[endLinks] = junctions.node(walk.cell);
+                endStep[endLinks] = walk.last;
+                endCost[endLinks] = walk.cost + graph.weight(to);
+                endSpan[endLinks] = walk.steps + 1;
+                endLinks++;
+            }
+        }
+
+        if (junctions.node(from) >= 0) {
+            int s = junctions.node(from);
+            dist[s] = 0;
+            parent[s] = -1;
+            via[s] = -1;
+            pq.push(s, 0);
+            pushes++;
+        } else {
+            int degree = junctions.coreNeighbors(from, nb);
+            for (int k = 0; k < degree; k++) {
+                int step = nb[k];
+                junctions.walk(from, step, to, walk);
+                if (walk.cell < 0) continue;
+                int v = walk.cell == to ? target : junctions.node(walk.cell);
+                int d = walk.cost + graph.weight(walk.cell);
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    parent[v] = -1;
+                    via[v] = -(step + 2);
+                    span[v] = walk.steps + 1;
+                    pq.push(v, d);
+                    pushes++;
+                }
+            }
+        }
+
+        while (!pq.isEmpty()) {
+            int u = pq.popMin();
+            closed.set(u);
+            expanded++;
+            if (u == target) {
+                int[] core = buildPath(from, to, u, parent, via, span, virtual, nb);
+                int[] path = join(start, end, from, to, core);
+                return new SolveResult(name(), path, SolveResult.pathCost(graph, path), expanded, pushes, peak, System.nanoTime() - t0);
+            }
+            if (u == virtual) continue;
+            if (listener != null) listener.onExpand(junctions.cell(u));
+
+            int du = dist[u];
+            for (int e = junctions.edgeFrom(u), last = junctions.edgeTo(u); e < last; e++) {
+                int v = junctions.target(e);
+                if (closed.get(v)) continue;
+                int nd = du + junctions.edgeCost(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    via[v] = e;
+                    span[v] = junctions.edgeLength(e) + 1;
+                    pq.push(v, nd);
+                    pushes++;
+                }
+            }
+            for (int k = 0; k < endLinks; k++) {
+                if (endNode[k] != u) continue;
+                int nd = du + endCost[k];
+                if (nd < dist[virtual]) {
+                    dist[virtual] = nd;
+                    parent[virtual] = u;
+                    via[virtual] = -(endStep[k] + 2);
+                    span[virtual] = endSpan[k];
+                    pq.push(virtual, nd);
+                    pushes++;
+                }
+            }
+            peak = Math.max(peak, pq.size());
+        }
+        return SolveResult.notFound(name(), expanded, pushes, peak, System.nanoTime() - t0);
+    }
+
+    // Susun ulang path sel: rantai node dari akar ke target, tiap hop diekspansi per koridor
+    private int[] buildPath(int start, int end, int target, int[] parent, int[] via, int[] span, int virtual, int[] nb) {
+        int hops = 0, length = 1;
+        for (int x = target; x != -1 && via[x] != -1; x = parent[x]) {
+            hops++;
+            length += span[x];
+        }
+        int[] chain = new int[hops];
+        for (int x = target, i = hops - 1; i >= 0; x = parent[x]) chain[i--] = x;
+
+        int[] path = new int[length];
+        path[0] = start;
+        int size = 1, from = start;
+        for (int x : chain) {
+            int to = x == virtual ? end : junctions.cell(x);
+            int step = via[x] >= 0 ? junctions.firstStep(via[x]) : -(via[x] + 2);
+            size = junctions.expand(from, step, to, path, size, nb);
+            from = to;
+        }
+        return path;
+    }
+
+    // start -> from lewat up[], path core from -> to, lalu to -> end (kebalikan up[])
+    private int[] join(int start, int end, int from, int to, int[] core) {
+        int head = junctions.depth(start) - junctions.depth(from);
+        int tail = junctions.depth(end) - junctions.depth(to);
+        int[] path = new int[head + core.length + tail];
+        int i = 0;
+        for (int c = start; c != from; c = junctions.up(c)) path[i++] = c;
+        System.arraycopy(core, 0, path, i, core.length);
+        i = path.length - 1;
+        for (int c = end; c != to; c = junctions.up(c)) path[i--] = c;
+        return path;
+    }
+}
@@ -0,0 +1,45 @@
+package maze;
+
+import java.util.Random;
+
+public class KruskalGenerator implements MazeAlgorithm {
+    @Override
+    public String name() {
+        return "Kruskal";
+    }
+
+    @Override
+    public void carve(MazeGrid grid, Random rand) {
+        int rows = grid.rows, cols = grid.cols;
+        int n = grid.size();
+        if (n > Integer.MAX_VALUE >>> 1) {
+            throw new IllegalArgumentException("Maze too large for Kruskal edge encoding: " + n + " cells");
+        }
+        // Sisi interior dikodekan (sel << 1 | 0 kanan / 1 bawah)
+        int[] edges = new int[rows * (cols - 1) + (rows - 1) * cols];
+        int count = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int c = grid.id(i, j);
+                if (j < cols - 1) edges[count++] = c << 1;
+                if (i < rows - 1) edges[count++] = c << 1 | 1;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int k = rand.nextInt(i + 1);
+            int t = edges[i]; edges[i] = edges[k]; edges[k] = t;
+        }
+
+        UnionFind sets = new UnionFind(n);
+        int remaining = n - 1;
+        for (int i = 0; i < count && remaining > 0; i++) {
+            int e = edges[i];
+            int a = e >>> 1;
+            int b = (e & 1) == 0 ? a + 1 : a + cols;
+            if (sets.union(a, b)) {
+                grid.removeWall(a, b);
+                remaining--;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * Praproses ALT (A*, Landmarks, Triangle inequality). Untuk tiap landmark L disimpan
+ * d(L, v) untuk semua sel. Karena masuk ke sel v berbiaya weight(v), jalur terpendek
+ * v -> L sama dengan L -> v dan d(v, L) = d(L, v) - weight(v) + weight(L), jadi satu
+ * Dijkstra per landmark sudah cukup untuk kedua arah ketaksamaan segitiga.
+ * Batas bawahnya admissible dan konsisten, berbeda dengan Manhattan yang bisa
+ * melebihi biaya sebenarnya di atas stone (bobot 0).
+ */
+public class Landmarks {
+    public static final int DEFAULT_COUNT = 8;
+    static final int INF = Integer.MAX_VALUE;
+
+    private final MazeView grid;
+    private final int[] landmarks;
+    // d(L_i, v) disimpan berdampingan per sel: dist[v * k + i]
+    private final int[] dist;
+    private final int k;
+
+    private Landmarks(MazeView grid, int[] landmarks, int[] dist) {
+        this.grid = grid;
+        this.landmarks = landmarks;
+        this.dist = dist;
+        this.k = landmarks.length;
+    }
+
+    // Pemilihan farthest-point: landmark berikutnya adalah sel terjauh dari landmark yang sudah ada
+    public static Landmarks select(WeightedGraph graph, int count) {
+        int n = graph.size();
+        count = Math.max(1, Math.min(count, n));
+        if ((long) n * count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many landmark distances: " + n + " x " + count);
+        }
+        int[] chosen = new int[count];
+        int[] dist = new int[n * count];
+        int[] nearest = new int[n];
+        Arrays.fill(nearest, INF);
+
+        int seed = farthest(distancesFrom(graph, 0));
+        int next = seed < 0 ? 0 : seed;
+        for (int i = 0; i < count; i++) {
+            chosen[i] = next;
+            int[] d = distancesFrom(graph, next);
+            for (int v = 0; v < n; v++) {
+                dist[v * count + i] = d[v];
+                if (d[v] < nearest[v]) nearest[v] = d[v];
+            }
+            next = farthest(nearest);
+            if (next < 0) {
+                // Semua sel terjangkau sudah berjarak nol dari sebuah landmark
+                return new Landmarks(graph.getGrid(), Arrays.copyOf(chosen, i + 1), compact(dist, n, count, i + 1));
+            }
+        }
+        return new Landmarks(graph.getGrid(), chosen, dist);
+    }
+
+    private static int farthest(int[] d) {
+        int best = -1, bestDist = 0;
+        for (int v = 0; v < d.length; v++) {
+            if (d[v] != INF && d[v] > bestDist) {
+                best = v;
+                bestDist = d[v];
+            }
+        }
+        return best;
+    }
+
+    private static int[] compact(int[] dist, int n, int oldK, int newK) {
+        int[] out = new int[n * newK];
+        for (int v = 0; v < n; v++) System.arraycopy(dist, v * oldK, out, v * newK, newK);
+        return out;
+    }
+
+    // Dijkstra satu sumber penuh; masuk ke sel v berbiaya weight(v)
+    static int[] distancesFrom(WeightedGraph graph, int source) {
+        int n = graph.size();
+        int[] d = new int[n];
+        Arrays.fill(d, INF);
+        IntPriorityQueue pq = new BucketQueue(n, MazeGrid.MAX_WEIGHT);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        d[source] = 0;
+        pq.push(source, 0);
+        while (!pq.isEmpty()) {
+            int u = pq.popMin();
+            int du = d[u];
+            int degree = graph.neighbors(u, nb);
+            for (int j = 0; j < degree; j++) {
+                int v = nb[j];
+                int nd = du + graph.weight(v);
+                if (nd < d[v]) {
+                    d[v] = nd;
+                    pq.push(v, nd);
+                }
+            }
+        }
+        return d;
+    }
+
+    public int count() {
+        return k;
+    }
+
+    public int landmark(int i) {
+        return landmarks[i];
+    }
+
+    // Batas bawah d(a, b) dari semua landmark yang menjangkau keduanya
+    public int estimate(int a, int b) {
+        int best = 0;
+        int wa = grid.weight(a), wb = grid.weight(b);
+        int ia = a * k, ib = b * k;
+        for (int i = 0; i < k; i++) {
+            int la = dist[ia + i], lb = dist[ib + i];
+            if (la == INF || lb == INF) continue;
+            int lower = Math.max(lb - la, la - lb - wa + wb);
+            if (lower > best) best = lower;
+        }
+        return best;
+    }
+}
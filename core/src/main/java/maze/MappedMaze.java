@@ -0,0 +1,68 @@
+package maze;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+
+// Maze yang dibaca langsung dari file ter-mmap; solver berjalan di atasnya tanpa salinan
+public class MappedMaze implements MazeView {
+    private final Path path;
+    private final int rows, cols;
+    private final long seed;
+    private final MappedByteBuffer[] chunks;
+    private final int rowsPerChunk;
+    private final int rowBytes, wallBytes;
+
+    MappedMaze(Path path, int rows, int cols, long seed, MappedByteBuffer[] chunks, int rowsPerChunk) {
+        this.path = path;
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.chunks = chunks;
+        this.rowsPerChunk = rowsPerChunk;
+        this.rowBytes = MazeFile.rowBytes(cols);
+        this.wallBytes = MazeFile.packedWallBytes(cols);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+
+    @Override
+    public int walls(int id) {
+        int r = id / cols, c = id - r * cols;
+        int b = chunks[r / rowsPerChunk].get((r % rowsPerChunk) * rowBytes + (c >>> 1));
+        return (c & 1) == 0 ? b & 0xF : (b >>> 4) & 0xF;
+    }
+
+    // Byte terrain rusak jadi UncheckedIOException yang menyebut file, bukan ArrayIndexOutOfBoundsException di solver
+    @Override
+    public int terrainOrdinal(int id) {
+        int r = id / cols, c = id - r * cols;
+        int t = chunks[r / rowsPerChunk].get((r % rowsPerChunk) * rowBytes + wallBytes + c) & 0xFF;
+        if (t >= MazeGrid.TERRAINS.length) throw new UncheckedIOException(corrupt(t, r, c));
+        return t;
+    }
+
+    // Periksa semua byte terrain sekaligus (membaca seluruh file); open() sendiri tetap lazy
+    public void verify() throws IOException {
+        for (int i = 0; i < chunks.length; i++) {
+            int r0 = i * rowsPerChunk, count = Math.min(rowsPerChunk, rows - r0);
+            for (int r = 0; r < count; r++) {
+                int base = r * rowBytes + wallBytes;
+                for (int c = 0; c < cols; c++) {
+                    int t = chunks[i].get(base + c) & 0xFF;
+                    if (t >= MazeGrid.TERRAINS.length) throw corrupt(t, r0 + r, c);
+                }
+            }
+        }
+    }
+
+    private IOException corrupt(int t, int row, int col) {
+        return new IOException("Corrupt terrain byte " + t + " at row " + row + ", col " + col + " in " + path);
+    }
+}
@@ -0,0 +1,46 @@
+package maze;
+
+import java.util.Random;
+
+public interface MazeAlgorithm {
+    // Proporsi dinding sisa yang dibuka setelah maze sempurna terbentuk
+    double DEFAULT_BRAID_RATIO = 0.3;
+
+    String name();
+
+    // Membuat maze sempurna (spanning tree) pada grid yang semua dindingnya masih utuh
+    void carve(MazeGrid grid, Random rand);
+
+    default void generate(MazeGrid grid, Random rand, double braidRatio) {
+        carve(grid, rand);
+        braid(grid, rand, braidRatio);
+    }
+
+    // Buka sebagian dinding interior secara acak supaya ada lebih dari satu jalur
+    static void braid(MazeGrid grid, Random rand, double ratio) {
+        if (ratio <= 0) return;
+        int rows = grid.rows, cols = grid.cols;
+        // Sisi dikodekan (sel << 1 | arah) seperti KruskalGenerator
+        if (grid.size() > Integer.MAX_VALUE >>> 1) {
+            throw new IllegalArgumentException("Maze too large for braid edge encoding: " + grid.size() + " cells");
+        }
+        int[] edges = new int[rows * (cols - 1) + (rows - 1) * cols];
+        int count = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int c = grid.id(i, j);
+                if (j < cols - 1 && grid.hasWall(c, MazeGrid.RIGHT)) edges[count++] = c << 1;
+                if (i < rows - 1 && grid.hasWall(c, MazeGrid.BOTTOM)) edges[count++] = c << 1 | 1;
+            }
+        }
+        int wallsToRemove = (int) (count * ratio);
+        // Fisher-Yates parsial: pilih wallsToRemove dinding tanpa ArrayList.remove
+        for (int i = 0; i < wallsToRemove; i++) {
+            int k = i + rand.nextInt(count - i);
+            int e = edges[k];
+            edges[k] = edges[i];
+            int c = e >>> 1;
+            grid.removeWall(c, (e & 1) == 0 ? c + 1 : c + cols);
+        }
+    }
+}
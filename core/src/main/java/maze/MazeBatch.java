@@ -0,0 +1,121 @@
+package maze;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/*
+ * Mode batch tanpa UI: menjalankan MazePipeline untuk count maze dengan seed seed, seed+1, ...
+ * dan menulis hasilnya ke CSV atau format biner BinaryRecordSink. Tidak ada JFrame atau
+ * komponen AWT yang dibuat.
+ *
+ *   java -cp maze-core.jar maze.MazeBatch --count=100000 --size=64x64 --solvers=BFS,Dijkstra,ALT
+ *        --format=bin --out=results.bin --generators=4 --builders=2 --solve-threads=8
+ */
+public class MazeBatch {
+    private static final String USAGE = "Usage: MazeBatch [--count=N] [--size=ROWSxCOLS] [--seed=S] [--braid=R] [--terrain=random|noise]\n"
+            + "                 [--generator=prim|kruskal|tiled] [--solvers=NAME,...] [--format=csv|bin] [--out=FILE]\n"
+            + "                 [--generators=N] [--builders=N] [--solve-threads=N] [--queue=N]\n"
+            + "Solvers: " + String.join(",", MazeSolvers.NAMES);
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                System.err.println(USAGE);
+                System.exit(2);
+            }
+            opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        long count = Long.parseLong(opts.getOrDefault("count", "1000"));
+        String[] size = opts.getOrDefault("size", "64x64").split("x");
+        int rows = Integer.parseInt(size[0]), cols = Integer.parseInt(size[size.length - 1]);
+        long seed = Long.parseLong(opts.getOrDefault("seed", "1"));
+        double braid = Double.parseDouble(opts.getOrDefault("braid", String.valueOf(MazeAlgorithm.DEFAULT_BRAID_RATIO)));
+        MazeSpec.TerrainMode terrain = MazeSpec.TerrainMode.valueOf(opts.getOrDefault("terrain", "random").toUpperCase());
+        MazeAlgorithm algorithm = generator(opts.getOrDefault("generator", "prim"));
+        List<String> solvers = Arrays.asList(opts.getOrDefault("solvers", "BFS,Dijkstra").split(","));
+        int cpus = Runtime.getRuntime().availableProcessors();
+        MazePipeline pipeline = new MazePipeline(
+                Integer.parseInt(opts.getOrDefault("generators", String.valueOf(Math.max(1, cpus / 2)))),
+                Integer.parseInt(opts.getOrDefault("builders", "1")),
+                Integer.parseInt(opts.getOrDefault("solve-threads", String.valueOf(cpus))),
+                Integer.parseInt(opts.getOrDefault("queue", String.valueOf(MazePipeline.DEFAULT_QUEUE_CAPACITY))));
+
+        String out = opts.get("out");
+        OutputStream stream = out == null ? stdout() : Files.newOutputStream(Paths.get(out));
+        long t0 = System.nanoTime();
+        long written;
+        try (SolveRecordSink sink = "bin".equals(opts.getOrDefault("format", "csv"))
+                ? new BinaryRecordSink(stream)
+                : new CsvRecordSink(new OutputStreamWriter(new BufferedOutputStream(stream), StandardCharsets.UTF_8))) {
+            written = pipeline.run(specs(algorithm, rows, cols, seed, braid, terrain, count), solvers, sink);
+        }
+        System.err.printf("%d records from %d mazes in %.1f s%n", written, count, (System.nanoTime() - t0) / 1e9);
+    }
+
+    // Sink menutup stream yang dipegangnya; System.out cukup di-flush, bukan ditutup
+    private static OutputStream stdout() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                System.out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                System.out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() {
+                System.out.flush();
+            }
+
+            @Override
+            public void close() {
+                System.out.flush();
+            }
+        };
+    }
+
+    private static MazeAlgorithm generator(String name) {
+        switch (name) {
+            case "prim": return new PrimGenerator();
+            case "kruskal": return new KruskalGenerator();
+            case "tiled": return new TiledGenerator();
+            default: throw new IllegalArgumentException("Unknown generator: " + name);
+        }
+    }
+
+    // Spec dibuat saat diminta, jadi jutaan maze tidak pernah ada di memori sekaligus
+    static Iterator<MazeSpec> specs(MazeAlgorithm algorithm, int rows, int cols, long seed, double braid,
+                                    MazeSpec.TerrainMode terrain, long count) {
+        return new Iterator<MazeSpec>() {
+            long i;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public MazeSpec next() {
+                if (i >= count) throw new NoSuchElementException();
+                return new MazeSpec(algorithm, rows, cols, seed + i++, braid, terrain);
+            }
+        };
+    }
+}
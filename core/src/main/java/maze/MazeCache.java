@@ -0,0 +1,126 @@
+package maze;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/*
+ * Cache LRU maze hasil generate, dibatasi total byte (bukan jumlah entri) karena ukuran
+ * maze bisa berbeda ribuan kali lipat. Isinya MazeSnapshot yang immutable, jadi satu entri
+ * aman dibagi ke banyak thread; pemanggil yang perlu mengedit memakai MazeGrid.copyOf.
+ * Miss bersamaan untuk spec yang sama hanya men-generate sekali; pemanggil lain menunggu.
+ */
+public class MazeCache {
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    private final long maxBytes;
+    // accessOrder = true: iterasi dari entri yang paling lama tidak dipakai
+    private final LinkedHashMap<MazeSpec, MazeSnapshot> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<MazeSpec, CompletableFuture<MazeSnapshot>> loading = new HashMap<>();
+    private long bytes, hits, misses, evictions;
+
+    public MazeCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public MazeCache(long maxBytes) {
+        if (maxBytes < 0) throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    public MazeSnapshot get(MazeSpec spec) {
+        CompletableFuture<MazeSnapshot> pending;
+        boolean owner = false;
+        synchronized (this) {
+            MazeSnapshot cached = entries.get(spec);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            pending = loading.get(spec);
+            if (pending == null) {
+                pending = new CompletableFuture<>();
+                loading.put(spec, pending);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+
+        // Generate di luar lock supaya spec lain tetap bisa dilayani
+        MazeSnapshot snapshot;
+        try {
+            snapshot = spec.generate().snapshot();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(spec);
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            loading.remove(spec);
+            put(spec, snapshot);
+        }
+        pending.complete(snapshot);
+        return snapshot;
+    }
+
+    // Entri lebih besar dari seluruh kapasitas tidak disimpan sama sekali
+    private void put(MazeSpec spec, MazeSnapshot snapshot) {
+        long size = snapshot.footprint();
+        if (size > maxBytes) return;
+        MazeSnapshot old = entries.put(spec, snapshot);
+        if (old != null) bytes -= old.footprint();
+        bytes += size;
+        Iterator<MazeSnapshot> eldest = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().footprint();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized boolean contains(MazeSpec spec) {
+        return entries.containsKey(spec);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+}
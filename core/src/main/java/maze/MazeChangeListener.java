@@ -0,0 +1,6 @@
+package maze;
+
+// Dipanggil setelah dinding atau terrain sebuah sel berubah; dinding memanggil kedua sisinya
+public interface MazeChangeListener {
+    void cellChanged(int cell);
+}
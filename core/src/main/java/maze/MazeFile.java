@@ -0,0 +1,120 @@
+package maze;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * Format biner maze (little-endian):
+ *   header 32 byte: magic "MAZE", versi, rows, cols, seed (long), 8 byte cadangan
+ *   lalu per baris: dinding 4 bit per sel (ceil(cols/2) byte, sel genap di nibble bawah)
+ *   diikuti terrain 1 byte ordinal per sel.
+ * Tata letak per baris membuat file bisa ditulis secara streaming (Eller) dan dibaca
+ * acak lewat FileChannel.map tanpa menyalin ke objek Cell.
+ */
+public final class MazeFile {
+    public static final int MAGIC = 0x455A414D; // "MAZE" dalam little-endian
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+
+    // Batas satu region mmap; file yang lebih besar dipetakan per potongan baris utuh
+    static final long MAX_CHUNK = 1L << 30;
+
+    private MazeFile() {}
+
+    public static int packedWallBytes(int cols) {
+        return (cols + 1) >>> 1;
+    }
+
+    public static int rowBytes(int cols) {
+        return packedWallBytes(cols) + cols;
+    }
+
+    public static long fileSize(int rows, int cols) {
+        return HEADER_SIZE + (long) rows * rowBytes(cols);
+    }
+
+    static int rowsPerChunk(int cols) {
+        return (int) Math.max(1, MAX_CHUNK / rowBytes(cols));
+    }
+
+    public static void writeHeader(ByteBuffer buf, int rows, int cols, long seed) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putLong(seed).putLong(0L);
+    }
+
+    public static void save(MazeView maze, long seed, Path path) throws IOException {
+        int rows = maze.rows(), cols = maze.cols();
+        int rowBytes = rowBytes(cols), wallBytes = packedWallBytes(cols);
+        int rowsPerChunk = rowsPerChunk(cols);
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            writeHeader(header, rows, cols, seed);
+
+            for (int r0 = 0; r0 < rows; r0 += rowsPerChunk) {
+                int count = Math.min(rowsPerChunk, rows - r0);
+                long offset = HEADER_SIZE + (long) r0 * rowBytes;
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, offset, (long) count * rowBytes);
+                for (int r = r0; r < r0 + count; r++) {
+                    int base = (r - r0) * rowBytes;
+                    for (int c = 0; c < cols; c += 2) {
+                        int lo = maze.walls(maze.id(r, c));
+                        int hi = c + 1 < cols ? maze.walls(maze.id(r, c + 1)) : 0;
+                        buf.put(base + (c >>> 1), (byte) (lo | hi << 4));
+                    }
+                    for (int c = 0; c < cols; c++) {
+                        buf.put(base + wallBytes + c, (byte) maze.terrainOrdinal(maze.id(r, c)));
+                    }
+                }
+            }
+        }
+    }
+
+    // Dipetakan secara lazy: tidak ada byte sel yang dibaca di sini, jadi file multi-GB terbuka seketika.
+    // Byte terrain diperiksa saat dibaca (MappedMaze.terrainOrdinal) atau sekaligus lewat MappedMaze.verify()
+    public static MappedMaze open(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER_SIZE) throw new IOException("Not a maze file: " + path);
+            ByteBuffer header = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) throw new IOException("Not a maze file: " + path);
+            if (header.getInt(4) != VERSION) throw new IOException("Unsupported maze file version " + header.getInt(4));
+            int rows = header.getInt(8), cols = header.getInt(12);
+            long seed = header.getLong(16);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Invalid maze size " + rows + "x" + cols);
+            }
+            if (ch.size() < fileSize(rows, cols)) throw new IOException("Truncated maze file: " + path);
+
+            int rowBytes = rowBytes(cols);
+            int rowsPerChunk = rowsPerChunk(cols);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(rows + rowsPerChunk - 1) / rowsPerChunk];
+            for (int i = 0; i < chunks.length; i++) {
+                int r0 = i * rowsPerChunk;
+                int count = Math.min(rowsPerChunk, rows - r0);
+                chunks[i] = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + (long) r0 * rowBytes, (long) count * rowBytes);
+            }
+            return new MappedMaze(path, rows, cols, seed, chunks, rowsPerChunk);
+        }
+    }
+
+    public static MazeGrid load(Path path) throws IOException {
+        MappedMaze mapped = open(path);
+        MazeGrid grid = new MazeGrid(mapped.rows(), mapped.cols());
+        int n = grid.size();
+        try {
+            for (int id = 0; id < n; id++) {
+                grid.setWalls(id, mapped.walls(id));
+                grid.setTerrain(id, mapped.terrain(id));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return grid;
+    }
+}
@@ -1,17 +1,18 @@
+package maze;
+
 import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.function.Function;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
 
 public class MazeGenerator extends JFrame {
 
-    private static final int ROWS = 30;
-    private static final int COLS = 30;
+    private static final int DEFAULT_ROWS = 30;
+    private static final int DEFAULT_COLS = 30;
     private static final int CELL_SIZE = 32;
-    private static final int DELAY = 15;
-    private static final int WALK_DELAY = 100;
 
     private static final Color BG_COLOR = new Color(135, 206, 235);     // Langit Biru
     private static final Color PANEL_COLOR = new Color(100, 149, 237);  // Panel Biru
@@ -23,20 +24,47 @@ public class MazeGenerator extends JFrame {
     private static final Font PIXEL_FONT = new Font("Monospaced", Font.BOLD, 20);
     private static final Font LEGEND_FONT = new Font("Monospaced", Font.BOLD, 14);
 
-    private Cell[][] maze;
+    private final int rows, cols;
+    private MazeGrid maze;
     private MazePanel mazePanel;
+    private MazeSnapshot snapshot;
     private WeightedGraph graph;
-    private Cell start, end;
+    private Landmarks landmarks;
+    private IncrementalSolver incremental;
+    private MazeSolver lastSolver;
+    // Generate dan solve berjalan di worker; tugas lama selalu digantikan, jadi antrian cukup pendek
+    private final TaskScheduler scheduler = new TaskScheduler("maze-worker", 2, 8);
+    private TaskScheduler.Task<?> generation, solving;
+    // Maze ditentukan seed-nya; seed yang sama diambil dari cache, tidak di-generate ulang
+    private final MazeCache cache = new MazeCache();
+    private final Random seeds = new Random();
+    private Long nextSeed;
+    private int start = -1, end = -1;
+    private MazeAlgorithm algorithm = new PrimGenerator();
+    private AnimationScheduler animation;
+    private double animationSpeed = 1.0;
     private JPanel sidePanel;
 
     public MazeGenerator() {
+        this(DEFAULT_ROWS, DEFAULT_COLS);
+    }
+
+    public MazeGenerator(int rows, int cols) {
+        this(rows, cols, null);
+    }
+
+    // seed bukan null: NEW MAZE pertama mereproduksi maze dengan seed itu
+    public MazeGenerator(int rows, int cols, Long seed) {
+        this.rows = rows;
+        this.cols = cols;
+        this.nextSeed = seed;
         setTitle("Pixel Maze Quest");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         getContentPane().setBackground(BG_COLOR);
         setLayout(new BorderLayout(0, 0)); 
 
-        mazePanel = new MazePanel(ROWS, COLS, CELL_SIZE);
-        maze = new Cell[ROWS][COLS];
+        mazePanel = new MazePanel(rows, cols, CELL_SIZE);
+        mazePanel.setCellEditor(this::editCell);
         initializeMaze();
         mazePanel.setMaze(maze);
         mazePanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 4));
@@ -46,7 +74,7 @@ public class MazeGenerator extends JFrame {
         
         JPanel sidePanelContainer = new PixelLandscapePanel();
         sidePanelContainer.setLayout(new BorderLayout());
-        sidePanelContainer.setPreferredSize(new Dimension(240, ROWS * CELL_SIZE));
+        sidePanelContainer.setPreferredSize(new Dimension(240, mazePanel.getPreferredSize().height));
         
         sidePanelContainer.setBorder(BorderFactory.createMatteBorder(0, 4, 0, 0, Color.BLACK));
         
@@ -55,7 +83,6 @@ public class MazeGenerator extends JFrame {
 
         pack();
         setLocationRelativeTo(null);
-        setResizable(false); 
         customizeOptionPane();
     }
 
@@ -178,14 +205,31 @@ public class MazeGenerator extends JFrame {
         JButton dfsBtn = createPixelButton("DFS RUN");
         JButton dijkstraBtn = createPixelButton("DIJKSTRA");
         JButton astarBtn = createPixelButton("A* PATH");
+        JButton altBtn = createPixelButton("ALT PATH");
+        JButton lpaBtn = createPixelButton("LPA* LIVE");
+        JButton skipBtn = createPixelButton("SKIP");
         JButton resetBtn = createPixelButton("RESET");
         resetBtn.setBackground(new Color(70, 130, 180));
 
+        // Skala log: 1x sampai 1000x kecepatan animasi asli
+        JSlider speedSlider = new JSlider(0, 30, 0);
+        speedSlider.setOpaque(false);
+        speedSlider.addChangeListener(e -> {
+            animationSpeed = Math.pow(10, speedSlider.getValue() / 10.0);
+            if (animation != null) animation.setSpeed(animationSpeed);
+        });
+        JLabel speedLabel = new JLabel("SPEED", SwingConstants.CENTER);
+        speedLabel.setFont(LEGEND_FONT);
+        speedLabel.setForeground(LABEL_TEXT_COLOR);
+
         generateBtn.addActionListener(e -> generateMaze());
-        bfsBtn.addActionListener(e -> solveBFS());
-        dfsBtn.addActionListener(e -> solveDFS());
-        dijkstraBtn.addActionListener(e -> solveDijkstra());
-        astarBtn.addActionListener(e -> solveAStar());
+        bfsBtn.addActionListener(e -> solve(new BfsSolver()));
+        dfsBtn.addActionListener(e -> solve(new DfsSolver()));
+        dijkstraBtn.addActionListener(e -> solve(new DijkstraSolver()));
+        astarBtn.addActionListener(e -> solve(new AStarSolver()));
+        altBtn.addActionListener(e -> solveAlt());
+        lpaBtn.addActionListener(e -> solve(incremental));
+        skipBtn.addActionListener(e -> skipAnimation());
         resetBtn.addActionListener(e -> resetMaze());
 
         gbc.gridy++; panel.add(generateBtn, gbc);
@@ -193,6 +237,11 @@ public class MazeGenerator extends JFrame {
         gbc.gridy++; panel.add(dfsBtn, gbc);
         gbc.gridy++; panel.add(dijkstraBtn, gbc);
         gbc.gridy++; panel.add(astarBtn, gbc);
+        gbc.gridy++; panel.add(altBtn, gbc);
+        gbc.gridy++; panel.add(lpaBtn, gbc);
+        gbc.gridy++; gbc.insets = new Insets(16, 0, 0, 0); panel.add(speedLabel, gbc); gbc.insets = new Insets(0, 0, 8, 0);
+        gbc.gridy++; panel.add(speedSlider, gbc); gbc.insets = new Insets(8, 0, 8, 0);
+        gbc.gridy++; panel.add(skipBtn, gbc);
         gbc.gridy++; gbc.insets = new Insets(25, 0, 8, 0); panel.add(resetBtn, gbc);
 
         return panel;
@@ -259,286 +308,110 @@ public class MazeGenerator extends JFrame {
     }
 
     private void initializeMaze() {
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                maze[i][j] = new Cell(i, j);
-            }
-        }
+        if (maze == null) maze = new MazeGrid(rows, cols);
+        else maze.reset();
     }
 
+    // Maze baru dibangun di grid terpisah; grid yang tampil hanya disentuh EDT
     private void generateMaze() {
         resetMaze();
-        new Thread(() -> {
-            primAlgorithmWithMorePaths();
-            assignTerrainTypes();
-            graph = new WeightedGraph(maze, ROWS, COLS);
-            start = maze[0][0];
-            end = maze[ROWS-1][COLS-1];
-            start.isStart = true;
-            end.isEnd = true;
-            mazePanel.setMaze(maze);
-        }).start();
-    }
-
-    private void assignTerrainTypes() {
-        Random rand = new Random();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                int r = rand.nextInt(100);
-                if (r < 45) maze[i][j].terrain = TerrainType.STONE;
-                else if (r < 65) maze[i][j].terrain = TerrainType.GRASS;
-                else if (r < 82) maze[i][j].terrain = TerrainType.SAND;
-                else maze[i][j].terrain = TerrainType.LAVA;
-            }
-        }
-        maze[0][0].terrain = TerrainType.STONE;
-        maze[ROWS-1][COLS-1].terrain = TerrainType.STONE;
+        long seed = nextSeed != null ? nextSeed : seeds.nextLong();
+        nextSeed = null;
+        MazeSpec spec = new MazeSpec(algorithm, rows, cols, seed, MazeAlgorithm.DEFAULT_BRAID_RATIO);
+        generation = scheduler.submit(token -> {
+            MazeSnapshot snapshot = cache.get(spec);
+            token.checkCancelled();
+            MazeGrid next = MazeGrid.copyOf(snapshot);
+            WeightedGraph g = new WeightedGraph(snapshot);
+            SwingUtilities.invokeLater(() -> {
+                if (!token.isCancelled()) showMaze(spec, next, snapshot, g);
+            });
+            return null;
+        });
     }
 
-    private void primAlgorithmWithMorePaths() {
-        Random rand = new Random();
-        List<Wall> walls = new ArrayList<>();
-        Set<Cell> visited = new HashSet<>();
-
-        Cell current = maze[rand.nextInt(ROWS)][rand.nextInt(COLS)];
-        visited.add(current);
-        addWalls(current, walls);
-
-        while (!walls.isEmpty()) {
-            Wall wall = walls.remove(rand.nextInt(walls.size()));
-            Cell cell1 = wall.cell1;
-            Cell cell2 = wall.cell2;
-
-            if (visited.contains(cell1) != visited.contains(cell2)) {
-                removeWall(cell1, cell2);
-                Cell unvisited = visited.contains(cell1) ? cell2 : cell1;
-                visited.add(unvisited);
-                addWalls(unvisited, walls);
-            }
-        }
-
-        List<Wall> allWalls = new ArrayList<>();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                Cell c = maze[i][j];
-                if (c.rightWall && j < COLS - 1) allWalls.add(new Wall(c, maze[i][j+1]));
-                if (c.bottomWall && i < ROWS - 1) allWalls.add(new Wall(c, maze[i+1][j]));
-            }
-        }
-        int wallsToRemove = (int) (allWalls.size() * 0.3);
-        for (int i = 0; i < wallsToRemove && !allWalls.isEmpty(); i++) {
-            Wall wall = allWalls.remove(rand.nextInt(allWalls.size()));
-            removeWall(wall.cell1, wall.cell2);
-        }
+    private void showMaze(MazeSpec spec, MazeGrid next, MazeSnapshot s, WeightedGraph g) {
+        setTitle("Pixel Maze Quest - seed " + spec.seed);
+        maze = next;
+        snapshot = s;
+        graph = g;
+        landmarks = null;
+        incremental = new IncrementalSolver();
+        start = maze.id(0, 0);
+        end = maze.id(rows-1, cols-1);
+        maze.setEndpoints(start, end);
+        mazePanel.setMaze(maze);
     }
 
-    private void addWalls(Cell cell, List<Wall> walls) {
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for (int[] dir : dirs) {
-            int nr = cell.row + dir[0];
-            int nc = cell.col + dir[1];
-            if (nr >= 0 && nr < ROWS && nc >= 0 && nc < COLS) {
-                walls.add(new Wall(cell, maze[nr][nc]));
-            }
-        }
+    // Landmark dihitung lazy di worker pada query ALT pertama (dan setelah edit), lalu dipakai ulang
+    private void solveAlt() {
+        if (graph == null) return;
+        Landmarks known = landmarks;
+        lastSolver = null;
+        solveWith(g -> new AltSolver(known != null ? known : landmarksFor(g)));
     }
 
-    private void removeWall(Cell c1, Cell c2) {
-        if (c1.row == c2.row) {
-            if (c1.col < c2.col) { c1.rightWall = false; c2.leftWall = false; }
-            else { c1.leftWall = false; c2.rightWall = false; }
-        } else {
-            if (c1.row < c2.row) { c1.bottomWall = false; c2.topWall = false; }
-            else { c1.topWall = false; c2.bottomWall = false; }
-        }
+    // Dipanggil di worker; hasilnya disimpan hanya bila graph belum diganti edit lain
+    private Landmarks landmarksFor(WeightedGraph g) {
+        Landmarks l = Landmarks.select(g, Landmarks.DEFAULT_COUNT);
+        SwingUtilities.invokeLater(() -> {
+            if (graph == g && landmarks == null) landmarks = l;
+        });
+        return l;
     }
 
-    private void solveBFS() {
+    // Klik kanan: ganti terrain sel ke jenis berikutnya; LPA* langsung merencanakan ulang
+    private void editCell(int cell) {
         if (graph == null) return;
-        resetSolution();
-        new Thread(() -> {
-            Queue<Cell> queue = new LinkedList<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            Set<Cell> visited = new HashSet<>();
-
-            queue.offer(start);
-            visited.add(start);
-
-            while (!queue.isEmpty()) {
-                Cell current = queue.poll();
-                current.isVisited = true;
-                mazePanel.repaint();
-                sleep(DELAY);
-
-                if (current == end) {
-                    tracePath(parent, end);
-                    return;
-                }
-
-                for (Cell neighbor : graph.getNeighbors(current)) {
-                    if (!visited.contains(neighbor)) {
-                        visited.add(neighbor);
-                        parent.put(neighbor, current);
-                        queue.offer(neighbor);
-                    }
-                }
-            }
-        }).start();
+        TerrainType next = MazeGrid.TERRAINS[(maze.terrainOrdinal(cell) + 1) % MazeGrid.TERRAINS.length];
+        maze.setTerrain(cell, next);
+        // Snapshot lama tetap dibaca worker; yang baru hanya menyalin satu potongan terrain
+        snapshot = snapshot.withTerrain(cell, next);
+        graph = new WeightedGraph(snapshot);
+        incremental.graphChanged(graph, cell);
+        landmarks = null;
+        mazePanel.cellChanged(cell);
+        if (lastSolver == incremental) solve(incremental);
     }
 
-    private void solveDFS() {
+    private void solve(MazeSolver solver) {
         if (graph == null) return;
-        resetSolution();
-        new Thread(() -> {
-            Stack<Cell> stack = new Stack<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            Set<Cell> visited = new HashSet<>();
-
-            stack.push(start);
-            visited.add(start);
-
-            while (!stack.isEmpty()) {
-                Cell current = stack.pop();
-                current.isVisited = true;
-                mazePanel.repaint();
-                sleep(DELAY);
-
-                if (current == end) {
-                    tracePath(parent, end);
-                    return;
-                }
-
-                for (Cell neighbor : graph.getNeighbors(current)) {
-                    if (!visited.contains(neighbor)) {
-                        visited.add(neighbor);
-                        parent.put(neighbor, current);
-                        stack.push(neighbor);
-                    }
-                }
-            }
-        }).start();
+        lastSolver = solver;
+        solveWith(g -> solver);
     }
 
-    private void solveDijkstra() {
-        if (graph == null) return;
+    // Solve yang masih berjalan digantikan; worker hanya membaca snapshot di graph.
+    // prepare berjalan di worker, jadi praproses per solver (mis. landmark) tidak menahan EDT
+    private void solveWith(Function<WeightedGraph, MazeSolver> prepare) {
+        stopAnimation();
         resetSolution();
-        new Thread(() -> {
-            PriorityQueue<Node> pq = new PriorityQueue<>();
-            Map<Cell, Integer> dist = new HashMap<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            Set<Cell> visited = new HashSet<>();
-
-            for (int i = 0; i < ROWS; i++) {
-                for (int j = 0; j < COLS; j++) dist.put(maze[i][j], Integer.MAX_VALUE);
-            }
-
-            dist.put(start, 0);
-            pq.offer(new Node(start, 0));
-
-            while (!pq.isEmpty()) {
-                Node node = pq.poll();
-                Cell current = node.cell;
-
-                if (visited.contains(current)) continue;
-                visited.add(current);
-                current.isVisited = true;
-                mazePanel.repaint();
-                sleep(DELAY);
-
-                if (current == end) {
-                    tracePath(parent, end);
-                    return;
-                }
-
-                for (Cell neighbor : graph.getNeighbors(current)) {
-                    if (!visited.contains(neighbor)) {
-                        int newDist = dist.get(current) + neighbor.terrain.weight;
-                        if (newDist < dist.get(neighbor)) {
-                            dist.put(neighbor, newDist);
-                            parent.put(neighbor, current);
-                            pq.offer(new Node(neighbor, newDist));
-                        }
-                    }
-                }
-            }
-        }).start();
-    }
-
-    private void solveAStar() {
-        if (graph == null) return;
-        resetSolution();
-        new Thread(() -> {
-            PriorityQueue<Node> pq = new PriorityQueue<>();
-            Map<Cell, Integer> gScore = new HashMap<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            Set<Cell> visited = new HashSet<>();
-
-            for (int i = 0; i < ROWS; i++) {
-                for (int j = 0; j < COLS; j++) gScore.put(maze[i][j], Integer.MAX_VALUE);
-            }
-
-            gScore.put(start, 0);
-            int fScore = heuristic(start, end);
-            pq.offer(new Node(start, fScore));
-
-            while (!pq.isEmpty()) {
-                Node node = pq.poll();
-                Cell current = node.cell;
-
-                if (visited.contains(current)) continue;
-                visited.add(current);
-                current.isVisited = true;
-                mazePanel.repaint();
-                sleep(DELAY);
-
-                if (current == end) {
-                    tracePath(parent, end);
-                    return;
-                }
-
-                for (Cell neighbor : graph.getNeighbors(current)) {
-                    if (!visited.contains(neighbor)) {
-                        int tentativeG = gScore.get(current) + neighbor.terrain.weight;
-                        if (tentativeG < gScore.get(neighbor)) {
-                            gScore.put(neighbor, tentativeG);
-                            parent.put(neighbor, current);
-                            int f = tentativeG + heuristic(neighbor, end);
-                            pq.offer(new Node(neighbor, f));
-                        }
-                    }
-                }
-            }
-        }).start();
+        WeightedGraph g = graph;
+        int s = start, e = end;
+        solving = scheduler.supersede(solving, token -> {
+            MazeSolver solver = prepare.apply(g);
+            token.checkCancelled();
+            ExpansionLog log = new ExpansionLog();
+            SolveResult result = MazeMetrics.solve(solver, g, s, e, token.guard(log));
+
+            // Pencarian sudah selesai; playback diatur timer di EDT
+            SwingUtilities.invokeLater(() -> {
+                if (token.isCancelled()) return;
+                Runnable onFinish = result.found() ? () -> showPathCost(result.cost) : null;
+                animation = new AnimationScheduler(maze, mazePanel, log, result.path, onFinish);
+                animation.setSpeed(animationSpeed);
+                animation.start();
+            });
+            return result;
+        });
     }
 
-    private int heuristic(Cell a, Cell b) {
-        return Math.abs(a.row - b.row) + Math.abs(a.col - b.col);
+    private void stopAnimation() {
+        if (animation != null) animation.stop();
+        animation = null;
     }
 
-    private void tracePath(Map<Cell, Cell> parent, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        int totalCost = 0;
-        Cell current = end;
-
-        while (current != null) {
-            path.add(current);
-            if (current != start) totalCost += current.terrain.weight;
-            current = parent.get(current);
-        }
-        Collections.reverse(path);
-
-        for (Cell cell : path) {
-            cell.isPath = true;
-            mazePanel.repaint();
-            sleep(DELAY);
-        }
-
-        for (Cell cell : path) {
-            mazePanel.setPlayerPosition(cell.row, cell.col);
-            sleep(WALK_DELAY);
-        }
-        
-        showPathCost(totalCost);
+    private void skipAnimation() {
+        if (animation != null) animation.skipToEnd();
     }
 
     private void showPathCost(int cost) {
@@ -576,25 +449,29 @@ public class MazeGenerator extends JFrame {
     }
 
     private void resetMaze() {
+        cancelTasks();
+        stopAnimation();
         initializeMaze();
+        snapshot = null;
         graph = null;
-        start = null;
-        end = null;
+        landmarks = null;
+        incremental = null;
+        lastSolver = null;
+        start = -1;
+        end = -1;
         mazePanel.setMaze(maze);
     }
 
-    private void resetSolution() {
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                maze[i][j].isVisited = false;
-                maze[i][j].isPath = false;
-            }
-        }
-        mazePanel.repaint();
+    private void cancelTasks() {
+        if (generation != null) generation.cancel();
+        if (solving != null) solving.cancel();
+        generation = null;
+        solving = null;
     }
 
-    private void sleep(int ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) {}
+    private void resetSolution() {
+        maze.clearSolution();
+        mazePanel.repaint();
     }
 
     public static void main(String[] args) {
@@ -604,7 +481,13 @@ public class MazeGenerator extends JFrame {
             } catch (Exception e) {
                 e.printStackTrace();
             }
-            new MazeGenerator().setVisible(true);
+            if (args.length >= 3) {
+                new MazeGenerator(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Long.parseLong(args[2])).setVisible(true);
+            } else if (args.length >= 2) {
+                new MazeGenerator(Integer.parseInt(args[0]), Integer.parseInt(args[1])).setVisible(true);
+            } else {
+                new MazeGenerator().setVisible(true);
+            }
         });
     }
 
@@ -0,0 +1,206 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class MazeGrid implements MazeView {
+    public static final int TOP = 1, RIGHT = 2, BOTTOM = 4, LEFT = 8;
+    public static final int ALL_WALLS = TOP | RIGHT | BOTTOM | LEFT;
+
+    static final TerrainType[] TERRAINS = TerrainType.values();
+    static final int[] WEIGHTS = new int[TERRAINS.length];
+    static final int MAX_WEIGHT;
+    static {
+        int max = 0;
+        for (TerrainType t : TERRAINS) {
+            WEIGHTS[t.ordinal()] = t.weight;
+            max = Math.max(max, t.weight);
+        }
+        MAX_WEIGHT = max;
+    }
+
+    public final int rows, cols;
+    // 4 bit dinding per sel, dua sel per byte (sel genap di nibble bawah)
+    private final byte[] walls;
+    private final byte[] terrain;
+    private final BitSet visited, path;
+    private int start = -1, end = -1;
+    // Array kosong = tanpa overhead di jalur panas generator
+    private MazeChangeListener[] listeners = new MazeChangeListener[0];
+
+    public MazeGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maze size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        int n = rows * cols;
+        walls = new byte[(n + 1) >>> 1];
+        terrain = new byte[n];
+        visited = new BitSet(n);
+        path = new BitSet(n);
+        reset();
+    }
+
+    public static MazeGrid fromCells(Cell[][] maze, int rows, int cols) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                Cell c = maze[i][j];
+                int id = grid.id(i, j);
+                int w = (c.topWall ? TOP : 0) | (c.rightWall ? RIGHT : 0)
+                        | (c.bottomWall ? BOTTOM : 0) | (c.leftWall ? LEFT : 0);
+                grid.setWalls(id, w);
+                grid.setTerrain(id, c.terrain);
+                grid.setVisited(id, c.isVisited);
+                grid.setPath(id, c.isPath);
+                if (c.isStart) grid.start = id;
+                if (c.isEnd) grid.end = id;
+            }
+        }
+        return grid;
+    }
+
+    // Grid baru yang bisa diubah dengan dinding dan terrain view (mis. snapshot dari cache)
+    public static MazeGrid copyOf(MazeView view) {
+        MazeGrid grid = new MazeGrid(view.rows(), view.cols());
+        int n = grid.size();
+        for (int id = 0; id < n; id++) {
+            grid.setWalls(id, view.walls(id));
+            grid.terrain[id] = (byte) view.terrainOrdinal(id);
+        }
+        return grid;
+    }
+
+    @Override
+    public Cell toCell(int id) {
+        Cell c = MazeView.super.toCell(id);
+        c.isVisited = isVisited(id);
+        c.isPath = isPath(id);
+        c.isStart = id == start;
+        c.isEnd = id == end;
+        return c;
+    }
+
+    public void reset() {
+        Arrays.fill(walls, (byte) 0xFF);
+        Arrays.fill(terrain, (byte) TerrainType.STONE.ordinal());
+        clearSolution();
+        start = -1;
+        end = -1;
+    }
+
+    public void clearSolution() {
+        visited.clear();
+        path.clear();
+    }
+
+    // Salinan dinding + terrain untuk dibaca thread lain; visited/path/endpoint tidak ikut
+    public MazeSnapshot snapshot() {
+        return new MazeSnapshot(rows, cols, walls.clone(), terrain.clone());
+    }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public int size() { return rows * cols; }
+    @Override public int id(int row, int col) { return row * cols + col; }
+    @Override public int row(int id) { return id / cols; }
+    @Override public int col(int id) { return id % cols; }
+
+    @Override
+    public int walls(int id) {
+        int b = walls[id >>> 1];
+        return (id & 1) == 0 ? b & 0xF : (b >>> 4) & 0xF;
+    }
+
+    void setWalls(int id, int mask) {
+        int i = id >>> 1;
+        int b = walls[i];
+        if ((id & 1) == 0) b = (b & 0xF0) | (mask & 0xF);
+        else b = (b & 0x0F) | ((mask & 0xF) << 4);
+        walls[i] = (byte) b;
+    }
+
+    private void clearWall(int id, int dir) {
+        setWalls(id, walls(id) & ~dir);
+    }
+
+    private void setWall(int id, int dir) {
+        setWalls(id, walls(id) | dir);
+    }
+
+    // a dan b harus bertetangga; cek vertikal dulu supaya grid satu kolom tidak tertukar
+    public void removeWall(int a, int b) {
+        if (b == a + cols) { clearWall(a, BOTTOM); clearWall(b, TOP); }
+        else if (b == a - cols) { clearWall(a, TOP); clearWall(b, BOTTOM); }
+        else if (b == a + 1) { clearWall(a, RIGHT); clearWall(b, LEFT); }
+        else { clearWall(a, LEFT); clearWall(b, RIGHT); }
+        fireChanged(a, b);
+    }
+
+    public void addWall(int a, int b) {
+        if (b == a + cols) { setWall(a, BOTTOM); setWall(b, TOP); }
+        else if (b == a - cols) { setWall(a, TOP); setWall(b, BOTTOM); }
+        else if (b == a + 1) { setWall(a, RIGHT); setWall(b, LEFT); }
+        else { setWall(a, LEFT); setWall(b, RIGHT); }
+        fireChanged(a, b);
+    }
+
+    public void addChangeListener(MazeChangeListener l) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = l;
+    }
+
+    public void removeChangeListener(MazeChangeListener l) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == l) {
+                MazeChangeListener[] next = new MazeChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, next, 0, i);
+                System.arraycopy(listeners, i + 1, next, i, next.length - i);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    private void fireChanged(int a, int b) {
+        for (MazeChangeListener l : listeners) {
+            l.cellChanged(a);
+            l.cellChanged(b);
+        }
+    }
+
+    @Override public int terrainOrdinal(int id) { return terrain[id]; }
+    @Override public TerrainType terrain(int id) { return TERRAINS[terrain[id]]; }
+    @Override public int weight(int id) { return WEIGHTS[terrain[id]]; }
+    public void setTerrain(int id, TerrainType t) {
+        terrain[id] = (byte) t.ordinal();
+        fireChanged(id);
+    }
+
+    // Untuk pengisi paralel: tulis tanpa notifikasi dari thread pool, lalu pemanggil
+    // memanggil fireChanged dari thread-nya sendiri setelah semua worker selesai
+    void setTerrainSilently(int id, TerrainType t) {
+        terrain[id] = (byte) t.ordinal();
+    }
+
+    boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    void fireChanged(int id) {
+        for (MazeChangeListener l : listeners) l.cellChanged(id);
+    }
+
+    public boolean isVisited(int id) { return visited.get(id); }
+    public void setVisited(int id, boolean v) { visited.set(id, v); }
+    public boolean isPath(int id) { return path.get(id); }
+    public void setPath(int id, boolean p) { path.set(id, p); }
+
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public void setEndpoints(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+}
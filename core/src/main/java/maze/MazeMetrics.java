@@ -0,0 +1,138 @@
+package maze;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/*
+ * Titik masuk terinstrumentasi untuk generate dan solve. Setiap panggilan:
+ *  - mengukur byte yang dialokasikan thread pemanggil (com.sun.management.ThreadMXBean),
+ *  - menjumlahkan penghitung SolveResult ke MBean per algoritma
+ *    (maze:type=Solver,name=... dan maze:type=Generator,name=...),
+ *  - mengirim event JFR maze.Solve / maze.Generate bila event itu diaktifkan di rekaman.
+ * Solver paralel juga mengalokasi di thread pool; alokasi itu tidak ikut terhitung, dan
+ * deskripsi MBean menyebutkannya supaya terbaca di jconsole, bukan hanya di sini.
+ */
+public final class MazeMetrics {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+    private static final ConcurrentHashMap<String, SolverStats> SOLVERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, GeneratorStats> GENERATORS = new ConcurrentHashMap<>();
+
+    private static final String CALLER_ONLY = " Allocated bytes count only the calling thread: work forked to pool threads"
+            + " (ParallelBfs, DeltaStepping, the HPA* cluster build, TiledGenerator bands) is not included,"
+            + " so those numbers are understated.";
+    private static final String UNSUPPORTED = " -1 if the JVM cannot measure per-thread allocation.";
+    private static final Map<String, String> SOLVER_ATTRIBUTES = Map.of(
+            "TotalAllocatedBytes", "Bytes allocated during all solves." + CALLER_ONLY + UNSUPPORTED,
+            "AllocatedBytesPerSolve", "Average bytes allocated per solve." + CALLER_ONLY,
+            "NanosPerExpansion", "Total solve time divided by expanded cells",
+            "MaxPeakFrontier", "Largest open-list size seen by any solve");
+    private static final Map<String, String> GENERATOR_ATTRIBUTES = Map.of(
+            "TotalAllocatedBytes", "Bytes allocated during all generate calls." + CALLER_ONLY + UNSUPPORTED,
+            "NanosPerCell", "Total generation time divided by generated cells");
+
+    private MazeMetrics() {
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) return null;
+        if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    // Total byte yang pernah dialokasikan thread ini, atau -1 bila tidak didukung
+    public static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public static SolveResult solve(MazeSolver solver, WeightedGraph graph, int start, int end, SolverListener listener) {
+        return measure(graph, () -> solver.solve(graph, start, end, listener));
+    }
+
+    // Untuk worker yang memakai ulang SearchBuffers (BatchSolver): buffer tidak ikut terhitung per query
+    public static SolveResult solve(DijkstraSolver solver, WeightedGraph graph, int start, int end, SolverListener listener,
+                                    SearchBuffers buffers) {
+        return measure(graph, () -> solver.solve(graph, start, end, listener, buffers));
+    }
+
+    private static SolveResult measure(WeightedGraph graph, Supplier<SolveResult> solve) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        long before = allocatedBytes();
+        SolveResult result = solve.get();
+        long allocated = before < 0 ? -1 : allocatedBytes() - before;
+        event.end();
+
+        solverStats(result.algorithm).record(result, allocated);
+        if (event.shouldCommit()) {
+            event.algorithm = result.algorithm;
+            event.cells = graph.size();
+            event.found = result.found();
+            event.cost = result.cost;
+            event.pathLength = result.path.length;
+            event.expanded = result.expanded;
+            event.pushes = result.pushes;
+            event.pops = result.pops;
+            event.peakFrontier = result.peakFrontier;
+            event.neighborLookups = result.neighborLookups;
+            event.nanosPerExpansion = result.nanosPerExpansion();
+            event.allocated = allocated;
+            event.commit();
+        }
+        return result;
+    }
+
+    public static void generate(MazeAlgorithm algorithm, MazeGrid grid, Random rand, double braidRatio) {
+        GenerateEvent event = new GenerateEvent();
+        event.begin();
+        long before = allocatedBytes();
+        long t0 = System.nanoTime();
+        algorithm.generate(grid, rand, braidRatio);
+        long nanos = System.nanoTime() - t0;
+        long allocated = before < 0 ? -1 : allocatedBytes() - before;
+        event.end();
+
+        generatorStats(algorithm.name()).record(grid.size(), nanos, allocated);
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm.name();
+            event.rows = grid.rows;
+            event.cols = grid.cols;
+            event.braidRatio = braidRatio;
+            event.allocated = allocated;
+            event.commit();
+        }
+    }
+
+    public static SolverStats solverStats(String algorithm) {
+        return SOLVERS.computeIfAbsent(algorithm, name -> register("Solver", name, new SolverStats(name),
+                SolverStatsMBean.class, "Cumulative solve counters for " + name + "." + CALLER_ONLY, SOLVER_ATTRIBUTES));
+    }
+
+    public static GeneratorStats generatorStats(String algorithm) {
+        return GENERATORS.computeIfAbsent(algorithm, name -> register("Generator", name, new GeneratorStats(name),
+                GeneratorStatsMBean.class, "Cumulative generation counters for " + name + "." + CALLER_ONLY, GENERATOR_ATTRIBUTES));
+    }
+
+    private static <I, T extends I> T register(String type, String name, T bean, Class<I> api, String description,
+                                              Map<String, String> attributes) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName id = new ObjectName("maze:type=" + type + ",name=" + ObjectName.quote(name));
+            // Kelas yang dimuat ulang (mis. oleh runner benchmark) bisa mendaftarkan nama yang sama
+            if (server.isRegistered(id)) server.unregisterMBean(id);
+            server.registerMBean(new DescribedMBean<>(bean, api, description, attributes), id);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean for " + name, e);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,407 @@
+package maze;
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.function.IntConsumer;
+import javax.swing.*;
+
+public class MazePanel extends JPanel {
+    private MazeGrid maze;
+    private int rows, cols, cellSize;
+    private int playerRow = 0;
+    private int playerCol = 0;
+
+    // Viewport: origin dalam piksel dunia (zoom 1), zoom = faktor skala layar
+    private double zoom = 1.0;
+    private double originX, originY;
+    private Point dragStart;
+    // Klik kanan pada sel; null = tidak bisa diedit
+    private IntConsumer cellEditor;
+
+    // Terrain + dinding dirender sekali ke sini; hanya overlay yang digambar tiap frame
+    private BufferedImage staticLayer;
+    // Raster LOD untuk zoom jauh: satu piksel layar ditulis langsung ke int[]
+    private BufferedImage lodImage;
+    private int[] lodColOf = new int[0], lodRowOf = new int[0];
+    private boolean[] lodRightEdge = new boolean[0], lodBottomEdge = new boolean[0];
+
+    private static final Color VISITED_COLOR = new Color(135, 206, 250); // Biru Langit Cerah Solid
+    private static final Color PATH_COLOR = new Color(255, 215, 0); // Emas Solid
+    private static final Color PATH_BORDER_COLOR = PATH_COLOR.darker();
+    private static final Color WALL_COLOR = new Color(80, 80, 80);
+    private static final Color GOAL_COLOR = new Color(0, 255, 255);
+    private static final Color PLAYER_COLOR = new Color(220, 20, 60);
+    private static final int WALL_SIZE = 3;
+    // Warna tekstur per terrain, dibuat sekali (bukan per paint)
+    private static final Color[] LIGHTER = new Color[MazeGrid.TERRAINS.length];
+    private static final Color[] DARKER = new Color[MazeGrid.TERRAINS.length];
+    static {
+        for (TerrainType t : MazeGrid.TERRAINS) {
+            LIGHTER[t.ordinal()] = t.color.brighter();
+            DARKER[t.ordinal()] = t.color.darker();
+        }
+    }
+
+    private static final int MAX_VIEW_SIZE = 960;
+    private static final long MAX_CACHED_PIXELS = 16L << 20;
+    private static final double LOD_PIXELS_PER_CELL = 4.0;
+    private static final double MIN_PIXELS_PER_CELL = 0.05;
+    private static final double MAX_ZOOM = 4.0;
+    private static final double ZOOM_STEP = 1.25;
+
+    private static final int[] TERRAIN_RGB = new int[MazeGrid.TERRAINS.length];
+    static {
+        for (TerrainType t : MazeGrid.TERRAINS) TERRAIN_RGB[t.ordinal()] = t.color.getRGB();
+    }
+
+    public MazePanel(int rows, int cols, int cellSize) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cellSize = cellSize;
+        this.setPreferredSize(new Dimension(Math.min(cols * cellSize, MAX_VIEW_SIZE),
+                                            Math.min(rows * cellSize, MAX_VIEW_SIZE)));
+        this.setBackground(new Color(71, 56, 40)); // Dirt color background
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStart = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragStart == null) return;
+                originX -= (e.getX() - dragStart.x) / zoom;
+                originY -= (e.getY() - dragStart.y) / zoom;
+                dragStart = e.getPoint();
+                repaint();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    int cell = cellAt(e.getX(), e.getY());
+                    if (cell >= 0 && cellEditor != null) cellEditor.accept(cell);
+                } else if (e.getClickCount() == 2) {
+                    resetView();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoomAt(e.getX(), e.getY(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()));
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    public void setMaze(MazeGrid maze) {
+        this.maze = maze;
+        this.playerRow = 0;
+        this.playerCol = 0;
+        mazeChanged();
+    }
+
+    // Panggil setelah maze diganti atau banyak sel berubah sekaligus
+    public void mazeChanged() {
+        staticLayer = null;
+        repaint();
+    }
+
+    // Edit satu sel: gambar ulang sel itu dan tetangganya (garis dinding dipakai bersama) ke layer cache
+    public void cellChanged(int cell) {
+        if (maze == null) return;
+        if (staticLayer != null) {
+            int row = maze.row(cell), col = maze.col(cell);
+            int r0 = Math.max(0, row - 1), r1 = Math.min(rows - 1, row + 1);
+            int c0 = Math.max(0, col - 1), c1 = Math.min(cols - 1, col + 1);
+            Graphics2D g = staticLayer.createGraphics();
+            g.setColor(getBackground());
+            g.fillRect(c0 * cellSize, r0 * cellSize, (c1 - c0 + 1) * cellSize, (r1 - r0 + 1) * cellSize);
+            drawStaticCells(g, r0, r1, c0, c1);
+            g.dispose();
+        }
+        repaintCell(cell);
+    }
+
+    public void setCellEditor(IntConsumer cellEditor) {
+        this.cellEditor = cellEditor;
+    }
+
+    // Sel di bawah titik layar (sx, sy), atau -1 di luar maze
+    public int cellAt(int sx, int sy) {
+        if (maze == null) return -1;
+        int col = (int) Math.floor((originX + sx / zoom) / cellSize);
+        int row = (int) Math.floor((originY + sy / zoom) / cellSize);
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return -1;
+        return maze.id(row, col);
+    }
+
+    public void resetView() {
+        zoom = 1.0;
+        originX = 0;
+        originY = 0;
+        repaint();
+    }
+
+    // Zoom dengan titik (sx, sy) di layar tetap menunjuk ke tempat yang sama
+    public void zoomAt(int sx, int sy, double factor) {
+        double minZoom = MIN_PIXELS_PER_CELL / cellSize;
+        double newZoom = Math.max(minZoom, Math.min(MAX_ZOOM, zoom * factor));
+        double wx = originX + sx / zoom, wy = originY + sy / zoom;
+        zoom = newZoom;
+        originX = wx - sx / zoom;
+        originY = wy - sy / zoom;
+        repaint();
+    }
+
+    public void setPlayerPosition(int row, int col) {
+        int oldRow = playerRow, oldCol = playerCol;
+        this.playerRow = row;
+        this.playerCol = col;
+        repaintCell(oldRow, oldCol);
+        repaintCell(row, col);
+    }
+
+    public void repaintCell(int cell) {
+        if (maze != null) repaintCell(maze.row(cell), maze.col(cell));
+    }
+
+    private void repaintCell(int row, int col) {
+        double ppc = cellSize * zoom;
+        int x = (int) Math.floor((col * cellSize - originX) * zoom);
+        int y = (int) Math.floor((row * cellSize - originY) * zoom);
+        int size = (int) Math.ceil(ppc) + 1;
+        repaint(x, y, size, size);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (maze == null) return;
+
+        if (cellSize * zoom < LOD_PIXELS_PER_CELL) {
+            paintRaster(g);
+            return;
+        }
+
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.scale(zoom, zoom);
+        g2d.translate(-originX, -originY);
+
+        // Hanya sel yang bersinggungan dengan clip (dalam koordinat dunia) yang digambar
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, cols * cellSize, rows * cellSize);
+        int r0 = Math.max(0, Math.floorDiv(clip.y, cellSize));
+        int r1 = Math.min(rows - 1, Math.floorDiv(clip.y + clip.height - 1, cellSize));
+        int c0 = Math.max(0, Math.floorDiv(clip.x, cellSize));
+        int c1 = Math.min(cols - 1, Math.floorDiv(clip.x + clip.width - 1, cellSize));
+        if (r0 > r1 || c0 > c1) {
+            g2d.dispose();
+            return;
+        }
+
+        if ((long) rows * cols * cellSize * cellSize <= MAX_CACHED_PIXELS) {
+            if (staticLayer == null) staticLayer = renderStaticLayer();
+            g2d.drawImage(staticLayer, 0, 0, null);
+        } else {
+            drawStaticCells(g2d, r0, r1, c0, c1);
+        }
+
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i = r0; i <= r1; i++) {
+            for (int j = c0; j <= c1; j++) {
+                drawOverlay(g2d, i, j);
+            }
+        }
+        g2d.dispose();
+    }
+
+    private BufferedImage renderStaticLayer() {
+        BufferedImage image = new BufferedImage(cols * cellSize, rows * cellSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(getBackground());
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        drawStaticCells(g, 0, rows - 1, 0, cols - 1);
+        g.dispose();
+        return image;
+    }
+
+    private void drawStaticCells(Graphics2D g, int r0, int r1, int c0, int c1) {
+        for (int i = r0; i <= r1; i++) {
+            for (int j = c0; j <= c1; j++) {
+                int cell = maze.id(i, j);
+                int x = j * cellSize;
+                int y = i * cellSize;
+                TerrainType terrain = maze.terrain(cell);
+                g.setColor(terrain.color);
+                g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+                drawTerrainTexture(g, LIGHTER[terrain.ordinal()], DARKER[terrain.ordinal()], i, j, x, y);
+                drawWalls(g, maze.walls(cell), x, y);
+            }
+        }
+    }
+
+    // Mode LOD: di bawah beberapa piksel per sel, warna ditulis langsung ke raster int[]
+    private void paintRaster(Graphics g) {
+        int w = getWidth(), h = getHeight();
+        if (w <= 0 || h <= 0) return;
+        if (lodImage == null || lodImage.getWidth() != w || lodImage.getHeight() != h) {
+            lodImage = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            lodColOf = new int[w];
+            lodRightEdge = new boolean[w];
+            lodRowOf = new int[h];
+            lodBottomEdge = new boolean[h];
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, w, h);
+        clip = clip.intersection(new Rectangle(0, 0, w, h));
+        if (clip.isEmpty()) return;
+
+        double ppc = cellSize * zoom;
+        boolean showWalls = ppc >= 2;
+        double col0 = originX / cellSize, row0 = originY / cellSize;
+        int x1 = clip.x + clip.width, y1 = clip.y + clip.height;
+        for (int sx = clip.x; sx < x1; sx++) {
+            int col = (int) Math.floor(col0 + sx / ppc);
+            lodColOf[sx] = col;
+            lodRightEdge[sx] = showWalls && (int) Math.floor(col0 + (sx + 1) / ppc) != col;
+        }
+        for (int sy = clip.y; sy < y1; sy++) {
+            int row = (int) Math.floor(row0 + sy / ppc);
+            lodRowOf[sy] = row;
+            lodBottomEdge[sy] = showWalls && (int) Math.floor(row0 + (sy + 1) / ppc) != row;
+        }
+
+        int[] pixels = ((DataBufferInt) lodImage.getRaster().getDataBuffer()).getData();
+        int background = getBackground().getRGB();
+        int wall = WALL_COLOR.getRGB(), visited = VISITED_COLOR.getRGB(), path = PATH_COLOR.getRGB();
+        int goal = GOAL_COLOR.getRGB(), player = PLAYER_COLOR.getRGB();
+        int end = maze.getEnd();
+        for (int sy = clip.y; sy < y1; sy++) {
+            int row = lodRowOf[sy];
+            int offset = sy * w;
+            boolean rowInside = row >= 0 && row < rows;
+            for (int sx = clip.x; sx < x1; sx++) {
+                int col = lodColOf[sx];
+                int rgb;
+                if (!rowInside || col < 0 || col >= cols) {
+                    rgb = background;
+                } else {
+                    int cell = maze.id(row, col);
+                    int walls = maze.walls(cell);
+                    if (row == playerRow && col == playerCol) rgb = player;
+                    else if (cell == end) rgb = goal;
+                    else if ((lodRightEdge[sx] && (walls & MazeGrid.RIGHT) != 0)
+                            || (lodBottomEdge[sy] && (walls & MazeGrid.BOTTOM) != 0)) rgb = wall;
+                    else if (maze.isPath(cell)) rgb = path;
+                    else if (maze.isVisited(cell)) rgb = visited;
+                    else rgb = TERRAIN_RGB[maze.terrainOrdinal(cell)];
+                }
+                pixels[offset + sx] = rgb;
+            }
+        }
+        g.drawImage(lodImage, clip.x, clip.y, x1, y1, clip.x, clip.y, x1, y1, null);
+    }
+
+    private void drawOverlay(Graphics2D g, int row, int col) {
+        int cell = maze.id(row, col);
+        int x = col * cellSize;
+        int y = row * cellSize;
+        boolean overlay = false;
+
+        if (maze.isPath(cell)) {
+            g.setColor(PATH_COLOR);
+            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+            g.setColor(PATH_BORDER_COLOR);
+            g.drawRect(x + 1, y + 1, cellSize - 3, cellSize - 3);
+            overlay = true;
+        } else if (maze.isVisited(cell)) {
+            g.setColor(VISITED_COLOR);
+            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+            overlay = true;
+        }
+        // Dinding digambar ulang di atas overlay seperti urutan aslinya
+        if (overlay) drawWalls(g, maze.walls(cell), x, y);
+
+        if (row == playerRow && col == playerCol) {
+            drawPixelPlayer(g, x, y);
+        }
+        
+        if (cell == maze.getEnd()) drawDiamond(g, x, y);
+    }
+
+    private void drawWalls(Graphics2D g, int walls, int x, int y) {
+        g.setColor(WALL_COLOR);
+        if ((walls & MazeGrid.TOP) != 0) g.fillRect(x, y, cellSize, WALL_SIZE);
+        if ((walls & MazeGrid.RIGHT) != 0) g.fillRect(x + cellSize - WALL_SIZE, y, WALL_SIZE, cellSize);
+        if ((walls & MazeGrid.BOTTOM) != 0) g.fillRect(x, y + cellSize - WALL_SIZE, cellSize, WALL_SIZE);
+        if ((walls & MazeGrid.LEFT) != 0) g.fillRect(x, y, WALL_SIZE, cellSize);
+    }
+    
+    // Tiga titik per sel dari hash (row, col): stabil antar-paint tanpa objek Random per sel
+    private void drawTerrainTexture(Graphics2D g, Color lighter, Color darker, int row, int col, int x, int y) {
+        int span = cellSize - 4;
+        if (span <= 0) return;
+        long h = mix(((long) row << 32) | (col & 0xFFFFFFFFL));
+        for (int i = 0; i < 3; i++, h >>>= 21) {
+            int px = x + (int) ((h & 0x3FF) % span) + 2;
+            int py = y + (int) (((h >>> 10) & 0x3FF) % span) + 2;
+            g.setColor((h & (1L << 20)) != 0 ? lighter : darker);
+            g.fillRect(px, py, 2, 2);
+        }
+    }
+
+    // Finalizer SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private void drawPixelPlayer(Graphics2D g, int x, int y) {
+        int offset = 4;
+        int size = cellSize - 8;
+        
+        g.setColor(PLAYER_COLOR); 
+        
+        g.fillRect(x + offset, y + offset + size/4, size, size*3/4);
+        g.fillRect(x + offset + size/4, y + offset, size/2, size/4);
+        
+        g.setColor(Color.WHITE);
+        int eyeSize = size / 4;
+        g.fillRect(x + offset + size/4 - 2, y + offset + size/4 + 2, eyeSize, eyeSize); // Kiri
+        g.fillRect(x + offset + size*3/4 - eyeSize + 2, y + offset + size/4 + 2, eyeSize, eyeSize); // Kanan
+        
+        g.setColor(Color.BLACK);
+        int pupilSize = size / 8;
+        g.fillRect(x + offset + size/4, y + offset + size/4 + 4, pupilSize, pupilSize); // Kiri
+        g.fillRect(x + offset + size*3/4 - eyeSize + 4, y + offset + size/4 + 4, pupilSize, pupilSize); // Kanan
+    }
+    
+    private void drawDiamond(Graphics2D g, int x, int y) {
+        int cx = x + cellSize/2;
+        int cy = y + cellSize/2;
+        int size = 8;
+        
+        g.setColor(new Color(0, 255, 255, 100));
+        int[] xPoints = {cx, cx + size, cx, cx - size};
+        int[] yPoints = {cy - size, cy, cy + size, cy};
+        g.fillPolygon(xPoints, yPoints, 4);
+        
+        g.setColor(new Color(0, 255, 255));
+        size = 6;
+        int[] xPoints2 = {cx, cx + size, cx, cx - size};
+        int[] yPoints2 = {cy - size, cy, cy + size, cy};
+        g.fillPolygon(xPoints2, yPoints2, 4);
+        
+        g.setColor(Color.WHITE);
+        g.fillRect(cx - 2, cy - 3, 2, 2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package maze;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/*
+ * Pipeline headless: generate -> bangun graph -> solve -> sink. Tiap tahap punya jumlah
+ * worker sendiri dan dihubungkan antrian terbatas, jadi tahap yang cepat tertahan (put
+ * memblokir) begitu tahap berikutnya tertinggal; memori tetap O(kapasitas antrian) berapa
+ * pun jumlah maze. Spec diambil malas dari iterator dan hasil langsung ditulis ke sink oleh
+ * thread pemanggil, tanpa dikumpulkan. Tiap maze diselesaikan dari pojok kiri atas ke
+ * pojok kanan bawah oleh semua solver yang diminta. Urutan record mengikuti selesainya
+ * pekerjaan; kolom index menunjuk posisi spec di iterator.
+ * Kegagalan di tahap mana pun menghentikan semua worker dan dilempar ulang dari run().
+ */
+public class MazePipeline {
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private static final Job END = new Job(-1, null);
+    private static final SolveRecord RECORD_END = new SolveRecord(-1, null, null, null);
+
+    private final int generators, builders, solvers, queueCapacity;
+
+    public MazePipeline(int generators, int builders, int solvers, int queueCapacity) {
+        if (generators < 1 || builders < 1 || solvers < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Stage parallelism and queue capacity must be positive");
+        }
+        this.generators = generators;
+        this.builders = builders;
+        this.solvers = solvers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // Maze bergerak antar tahap lewat objek yang sama; tiap tahap mengisi satu field
+    private static final class Job {
+        final long index;
+        final MazeSpec spec;
+        MazeSnapshot maze;
+        WeightedGraph graph;
+
+        Job(long index, MazeSpec spec) {
+            this.index = index;
+            this.spec = spec;
+        }
+    }
+
+    private interface Worker {
+        void run() throws InterruptedException;
+    }
+
+    // Mengembalikan jumlah record yang ditulis ke sink; sink tidak ditutup
+    public long run(Iterator<MazeSpec> specs, List<String> solverNames, SolveRecordSink sink)
+            throws IOException, InterruptedException {
+        List<Function<WeightedGraph, MazeSolver>> factories = new ArrayList<>();
+        for (String name : solverNames) factories.add(MazeSolvers.factory(name));
+        if (factories.isEmpty()) throw new IllegalArgumentException("No solvers given");
+        return new Run(specs, solverNames, factories).execute(sink);
+    }
+
+    private final class Run {
+        final Iterator<MazeSpec> specs;
+        final List<String> names;
+        final List<Function<WeightedGraph, MazeSolver>> factories;
+        final BlockingQueue<Job> generated = new ArrayBlockingQueue<>(queueCapacity);
+        final BlockingQueue<Job> built = new ArrayBlockingQueue<>(queueCapacity);
+        final BlockingQueue<SolveRecord> results;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Thread> threads = new ArrayList<>();
+        final Thread caller = Thread.currentThread();
+        long nextIndex;
+
+        Run(Iterator<MazeSpec> specs, List<String> names, List<Function<WeightedGraph, MazeSolver>> factories) {
+            this.specs = specs;
+            this.names = names;
+            this.factories = factories;
+            results = new ArrayBlockingQueue<>(queueCapacity * factories.size());
+        }
+
+        long execute(SolveRecordSink sink) throws IOException, InterruptedException {
+            stage("generate", generators, () -> {
+                for (Job job = nextJob(); job != null; job = nextJob()) {
+                    job.maze = job.spec.generate().snapshot();
+                    generated.put(job);
+                }
+            }, () -> {
+                for (int i = 0; i < builders; i++) generated.put(END);
+            });
+            stage("graph", builders, () -> {
+                for (Job job = generated.take(); job != END; job = generated.take()) {
+                    // CSR: semua solver pada maze ini membaca tetangga dari array padat
+                    job.graph = new WeightedGraph(job.maze, true);
+                    job.maze = null;
+                    built.put(job);
+                }
+            }, () -> {
+                for (int i = 0; i < solvers; i++) built.put(END);
+            });
+            stage("solve", solvers, () -> {
+                for (Job job = built.take(); job != END; job = built.take()) {
+                    int end = job.graph.size() - 1;
+                    for (int i = 0; i < factories.size(); i++) {
+                        MazeSolver solver = factories.get(i).apply(job.graph);
+                        SolveResult result = MazeMetrics.solve(solver, job.graph, 0, end, null);
+                        results.put(new SolveRecord(job.index, job.spec, names.get(i), result));
+                    }
+                }
+            }, () -> results.put(RECORD_END));
+            for (Thread t : threads) t.start();
+
+            long written = 0;
+            try {
+                for (SolveRecord r = results.take(); r != RECORD_END; r = results.take()) {
+                    sink.accept(r);
+                    written++;
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                fail(e);
+            } catch (InterruptedException e) {
+                // Diinterupsi worker yang gagal, atau oleh pemanggil run()
+                if (failure.get() == null) fail(e);
+            }
+            joinAll();
+
+            Throwable error = failure.get();
+            if (error == null) return written;
+            if (error instanceof IOException) throw (IOException) error;
+            if (error instanceof InterruptedException) throw (InterruptedException) error;
+            if (error instanceof RuntimeException) throw (RuntimeException) error;
+            if (error instanceof Error) throw (Error) error;
+            throw new IllegalStateException(error);
+        }
+
+        // fail() juga menginterupsi thread ini, jadi interupsi saat menunggu worker bukan alasan berhenti menunggu
+        private void joinAll() {
+            for (Thread t : threads) {
+                while (t.isAlive()) {
+                    try {
+                        t.join();
+                    } catch (InterruptedException e) {
+                        if (failure.get() == null) fail(e);
+                    }
+                }
+            }
+            Thread.interrupted();
+        }
+
+        private Job nextJob() {
+            synchronized (specs) {
+                if (failure.get() != null || !specs.hasNext()) return null;
+                return new Job(nextIndex++, specs.next());
+            }
+        }
+
+        // Worker terakhir yang selesai mengirim penanda END ke tahap berikutnya
+        private void stage(String name, int workers, Worker body, Worker onDone) {
+            AtomicInteger running = new AtomicInteger(workers);
+            for (int w = 0; w < workers; w++) {
+                Thread t = new Thread(() -> {
+                    try {
+                        body.run();
+                        if (running.decrementAndGet() == 0) onDone.run();
+                    } catch (InterruptedException e) {
+                        if (failure.get() == null) fail(e);
+                    } catch (Throwable e) {
+                        fail(e);
+                    }
+                }, "pipeline-" + name + "-" + (w + 1));
+                t.setDaemon(true);
+                threads.add(t);
+            }
+        }
+
+        private void fail(Throwable e) {
+            if (!failure.compareAndSet(null, e)) return;
+            for (Thread t : threads) t.interrupt();
+            caller.interrupt();
+        }
+    }
+}
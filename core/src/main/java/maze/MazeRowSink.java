@@ -0,0 +1,9 @@
+package maze;
+
+import java.io.IOException;
+
+// Menerima maze satu baris per panggilan; array dipakai ulang, salin jika perlu disimpan
+@FunctionalInterface
+public interface MazeRowSink {
+    void acceptRow(int row, byte[] walls, byte[] terrain) throws IOException;
+}
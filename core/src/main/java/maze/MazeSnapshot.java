@@ -0,0 +1,70 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * Salinan dinding dan terrain yang tidak bisa diubah. Worker membaca snapshot, bukan
+ * MazeGrid yang hidup, jadi solve bisa berjalan bersamaan dengan edit atau generate
+ * di EDT tanpa lock. Field final menjamin publikasi aman ke thread lain.
+ * Terrain dipotong per CHUNK sel supaya edit satu sel (withTerrain) hanya menyalin satu
+ * potongan dan berbagi sisanya, termasuk dinding, dengan snapshot sebelumnya.
+ */
+public final class MazeSnapshot implements MazeView {
+    private final int rows, cols;
+    // Format sama dengan MazeGrid: 4 bit dinding per sel, dua sel per byte
+    private final byte[] walls;
+    private static final int CHUNK_SHIFT = 16, CHUNK = 1 << CHUNK_SHIFT, CHUNK_MASK = CHUNK - 1;
+    private final byte[][] terrain;
+
+    // walls dimiliki snapshot (pemanggil tidak boleh menyimpan referensinya); terrain disalin per potongan
+    MazeSnapshot(int rows, int cols, byte[] walls, byte[] terrain) {
+        this(rows, cols, walls, split(terrain));
+    }
+
+    private MazeSnapshot(int rows, int cols, byte[] walls, byte[][] terrain) {
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = walls;
+        this.terrain = terrain;
+    }
+
+    private static byte[][] split(byte[] terrain) {
+        byte[][] chunks = new byte[(terrain.length + CHUNK_MASK) >>> CHUNK_SHIFT][];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c << CHUNK_SHIFT;
+            chunks[c] = Arrays.copyOfRange(terrain, from, Math.min(terrain.length, from + CHUNK));
+        }
+        return chunks;
+    }
+
+    // Snapshot baru yang berbeda di satu sel; hanya potongan terrain sel itu yang disalin
+    public MazeSnapshot withTerrain(int id, TerrainType t) {
+        byte[][] chunks = terrain.clone();
+        byte[] chunk = chunks[id >>> CHUNK_SHIFT].clone();
+        chunk[id & CHUNK_MASK] = (byte) t.ordinal();
+        chunks[id >>> CHUNK_SHIFT] = chunk;
+        return new MazeSnapshot(rows, cols, walls, chunks);
+    }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public int size() { return rows * cols; }
+    @Override public int id(int row, int col) { return row * cols + col; }
+    @Override public int row(int id) { return id / cols; }
+    @Override public int col(int id) { return id % cols; }
+
+    @Override
+    public int walls(int id) {
+        int b = walls[id >>> 1];
+        return (id & 1) == 0 ? b & 0xF : (b >>> 4) & 0xF;
+    }
+
+    // Perkiraan byte di heap: dinding, potongan terrain (dengan header array) plus header objek
+    long footprint() {
+        return walls.length + (long) size() + 16L * terrain.length + 64;
+    }
+
+    @Override public int terrainOrdinal(int id) { return terrain[id >>> CHUNK_SHIFT][id & CHUNK_MASK]; }
+    @Override public TerrainType terrain(int id) { return MazeGrid.TERRAINS[terrainOrdinal(id)]; }
+    @Override public int weight(int id) { return MazeGrid.WEIGHTS[terrainOrdinal(id)]; }
+}
@@ -0,0 +1,12 @@
+package maze;
+
+public interface MazeSolver {
+    String name();
+
+    // listener boleh null; solver tidak pernah menyentuh Swing atau sleep()
+    SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener);
+
+    default SolveResult solve(WeightedGraph graph, int start, int end) {
+        return solve(graph, start, end, null);
+    }
+}
@@ -0,0 +1,31 @@
+package maze;
+
+import java.util.function.Function;
+
+// Nama pendek solver untuk benchmark dan mode batch; solver berpraproses dibangun per graph
+public final class MazeSolvers {
+    public static final String[] NAMES = {
+        "BFS", "ParallelBFS", "DeltaStepping", "DFS", "Dijkstra", "AStar", "Junction", "HPA", "ALT"
+    };
+
+    private MazeSolvers() {}
+
+    public static MazeSolver create(String name, WeightedGraph graph) {
+        return factory(name).apply(graph);
+    }
+
+    public static Function<WeightedGraph, MazeSolver> factory(String name) {
+        switch (name) {
+            case "BFS": return g -> new BfsSolver();
+            case "ParallelBFS": return g -> new ParallelBfs();
+            case "DeltaStepping": return g -> new DeltaStepping();
+            case "DFS": return g -> new DfsSolver();
+            case "Dijkstra": return g -> new DijkstraSolver();
+            case "AStar": return g -> new AStarSolver();
+            case "Junction": return g -> new JunctionSolver(new JunctionGraph(g));
+            case "HPA": return g -> new HierarchicalSolver(new HierarchicalGraph(g));
+            case "ALT": return g -> new AltSolver(Landmarks.select(g, Landmarks.DEFAULT_COUNT));
+            default: throw new IllegalArgumentException("Unknown solver: " + name);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package maze;
+
+import java.util.Random;
+
+/*
+ * Parameter lengkap sebuah maze: algoritma, ukuran, seed, rasio braid dan mode terrain. Spec yang sama
+ * selalu menghasilkan dinding dan terrain yang sama, jadi spec bisa dipakai sebagai kunci
+ * cache atau dibagikan untuk mereproduksi level. Algoritma dibedakan lewat name(), jadi
+ * dua konfigurasi generator yang berbeda harus memberi nama berbeda.
+ */
+public final class MazeSpec {
+    // RANDOM: undian per sel (TerrainAssigner); NOISE: danau dan padang koheren (NoiseTerrain)
+    public enum TerrainMode { RANDOM, NOISE }
+
+    // Terrain memakai stream sendiri supaya tidak bergantung pada berapa angka yang dipakai carve
+    private static final long TERRAIN_STREAM = 0x9E3779B97F4A7C15L;
+
+    private final MazeAlgorithm algorithm;
+    public final int rows, cols;
+    public final long seed;
+    public final double braidRatio;
+    public final TerrainMode terrain;
+
+    public MazeSpec(MazeAlgorithm algorithm, int rows, int cols, long seed, double braidRatio) {
+        this(algorithm, rows, cols, seed, braidRatio, TerrainMode.RANDOM);
+    }
+
+    public MazeSpec(MazeAlgorithm algorithm, int rows, int cols, long seed, double braidRatio, TerrainMode terrain) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maze size " + rows + "x" + cols);
+        }
+        if (!(braidRatio >= 0 && braidRatio <= 1)) {
+            throw new IllegalArgumentException("braidRatio must be in [0, 1]: " + braidRatio);
+        }
+        this.algorithm = algorithm;
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.braidRatio = braidRatio;
+        this.terrain = terrain;
+    }
+
+    public MazeAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    // Grid baru yang bisa diubah; tiap panggilan menghasilkan isi yang identik
+    public MazeGrid generate() {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        MazeMetrics.generate(algorithm, grid, new Random(seed), braidRatio);
+        if (terrain == TerrainMode.NOISE) new NoiseTerrain(seed ^ TERRAIN_STREAM).assign(grid);
+        else TerrainAssigner.assign(grid, new Random(seed ^ TERRAIN_STREAM));
+        return grid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MazeSpec)) return false;
+        MazeSpec other = (MazeSpec) o;
+        return rows == other.rows && cols == other.cols && seed == other.seed
+                && Double.compare(braidRatio, other.braidRatio) == 0 && terrain == other.terrain
+                && algorithm.name().equals(other.algorithm.name());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = algorithm.name().hashCode();
+        h = 31 * h + rows;
+        h = 31 * h + cols;
+        h = 31 * h + Long.hashCode(seed);
+        h = 31 * h + Double.hashCode(braidRatio);
+        return 31 * h + terrain.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return algorithm.name() + " " + rows + "x" + cols + " seed=" + seed + " braid=" + braidRatio + " terrain=" + terrain;
+    }
+}
@@ -0,0 +1,44 @@
+package maze;
+
+// Tampilan read-only atas dinding dan terrain maze; dipakai WeightedGraph dan solver
+public interface MazeView {
+    int rows();
+
+    int cols();
+
+    int walls(int id);
+
+    int terrainOrdinal(int id);
+
+    default int size() { return rows() * cols(); }
+    default int id(int row, int col) { return row * cols() + col; }
+    default int row(int id) { return id / cols(); }
+    default int col(int id) { return id % cols(); }
+
+    default boolean hasWall(int id, int dir) {
+        return (walls(id) & dir) != 0;
+    }
+
+    default TerrainType terrain(int id) {
+        return MazeGrid.TERRAINS[terrainOrdinal(id)];
+    }
+
+    default int weight(int id) {
+        return MazeGrid.WEIGHTS[terrainOrdinal(id)];
+    }
+
+    default int manhattan(int a, int b) {
+        return Math.abs(row(a) - row(b)) + Math.abs(col(a) - col(b));
+    }
+
+    default Cell toCell(int id) {
+        Cell c = new Cell(row(id), col(id));
+        int w = walls(id);
+        c.topWall = (w & MazeGrid.TOP) != 0;
+        c.rightWall = (w & MazeGrid.RIGHT) != 0;
+        c.bottomWall = (w & MazeGrid.BOTTOM) != 0;
+        c.leftWall = (w & MazeGrid.LEFT) != 0;
+        c.terrain = terrain(id);
+        return c;
+    }
+}
@@ -0,0 +1,170 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Terrain koheren dari value noise ber-seed (fBm, beberapa oktaf) alih-alih undian per sel:
+ * nilai rendah jadi danau lava, dikelilingi pasir, lalu stone, dan padang rumput di nilai
+ * tertinggi. Ambang diambil dari kuantil sampel noise supaya proporsinya sama dengan
+ * TerrainAssigner (18% lava, 17% sand, 45% stone, 20% grass).
+ * terrain(row, col) hanya bergantung pada seed dan koordinat, jadi satu sel bisa dihitung
+ * tanpa membangun seluruh peta (mis. per baris di EllerGenerator) dan tile bisa diisi paralel
+ * dengan hasil yang sama berapa pun jumlah thread-nya.
+ */
+public class NoiseTerrain {
+    public static final int DEFAULT_FEATURE_SIZE = 16;
+    public static final int OCTAVES = 4;
+    private static final int TILE = 64;
+    // Urutan dari nilai noise terendah ke tertinggi, dengan porsi kumulatifnya
+    private static final TerrainType[] BANDS = { TerrainType.LAVA, TerrainType.SAND, TerrainType.STONE, TerrainType.GRASS };
+    private static final double[] CUMULATIVE = { 0.18, 0.35, 0.80 };
+    private static final int SAMPLE = 128, SAMPLE_STEP = 7;
+
+    private final long seed;
+    private final double frequency;
+    private final double[] thresholds;
+
+    public NoiseTerrain(long seed) {
+        this(seed, DEFAULT_FEATURE_SIZE);
+    }
+
+    // featureSize: kira-kira lebar danau/padang terbesar dalam sel
+    public NoiseTerrain(long seed, int featureSize) {
+        if (featureSize < 1) throw new IllegalArgumentException("featureSize must be positive: " + featureSize);
+        this.seed = seed;
+        this.frequency = 1.0 / featureSize;
+        double[] sample = new double[SAMPLE * SAMPLE];
+        for (int i = 0; i < SAMPLE; i++) {
+            for (int j = 0; j < SAMPLE; j++) sample[i * SAMPLE + j] = noise(i * SAMPLE_STEP, j * SAMPLE_STEP);
+        }
+        Arrays.sort(sample);
+        thresholds = new double[CUMULATIVE.length];
+        for (int k = 0; k < thresholds.length; k++) thresholds[k] = sample[(int) (CUMULATIVE[k] * sample.length)];
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    // fBm dalam [0, 1): jumlah oktaf dengan frekuensi berlipat dua dan amplitudo separuh
+    public double noise(int row, int col) {
+        double sum = 0, amplitude = 1, total = 0, f = frequency;
+        for (int o = 0; o < OCTAVES; o++) {
+            sum += amplitude * valueNoise(seed + o * 0x632BE59BD9B4E019L, col * f, row * f);
+            total += amplitude;
+            amplitude *= 0.5;
+            f *= 2;
+        }
+        return sum / total;
+    }
+
+    public TerrainType terrain(int row, int col) {
+        return band(noise(row, col));
+    }
+
+    private TerrainType band(double v) {
+        int k = 0;
+        while (k < thresholds.length && v >= thresholds[k]) k++;
+        return BANDS[k];
+    }
+
+    // Seperti TerrainAssigner.assign, termasuk start/end yang selalu stone
+    public void assign(MazeGrid grid) {
+        assign(grid, ForkJoinPool.commonPool());
+    }
+
+    // Tile TILE x TILE diisi paralel; tiap sel hanya ditulis sekali oleh satu tile
+    public void assign(MazeGrid grid, ForkJoinPool pool) {
+        int rows = grid.rows, cols = grid.cols;
+        int tileRows = (rows + TILE - 1) / TILE, tileCols = (cols + TILE - 1) / TILE;
+        // Listener tidak thread-safe: worker hanya menandai sel yang berubah, notifikasi setelah join
+        boolean[] changed = grid.hasListeners() ? new boolean[grid.size()] : null;
+        ParallelBfs.forEach(pool, tileRows * tileCols, t -> {
+            int r0 = t / tileCols * TILE, c0 = t % tileCols * TILE;
+            int h = Math.min(rows, r0 + TILE) - r0, w = Math.min(cols, c0 + TILE) - c0;
+            double[] sum = fillTile(r0, c0, h, w);
+            for (int i = 0; i < h; i++) {
+                for (int j = 0; j < w; j++) {
+                    int r = r0 + i, c = c0 + j;
+                    TerrainType type = TerrainAssigner.isEndpoint(r, c, rows, cols) ? TerrainType.STONE : band(sum[i * w + j]);
+                    int id = grid.id(r, c);
+                    if (changed != null && grid.terrainOrdinal(id) != type.ordinal()) changed[id] = true;
+                    grid.setTerrainSilently(id, type);
+                }
+            }
+        });
+        if (changed == null) return;
+        for (int id = 0; id < changed.length; id++) {
+            if (changed[id]) grid.fireChanged(id);
+        }
+    }
+
+    /*
+     * noise() untuk satu tile sekaligus: per oktaf, nilai kisi dan bobot fade per kolom/baris
+     * dihitung sekali lalu dipakai semua sel. Urutan operasinya sama persis dengan noise(),
+     * jadi hasilnya identik bit per bit dengan evaluasi per sel.
+     */
+    private double[] fillTile(int r0, int c0, int h, int w) {
+        double[] sum = new double[h * w];
+        double[] fx = new double[w], fy = new double[h];
+        int[] gx = new int[w], gy = new int[h];
+        double amplitude = 1, total = 0, f = frequency;
+        for (int o = 0; o < OCTAVES; o++) {
+            long octaveSeed = seed + o * 0x632BE59BD9B4E019L;
+            for (int j = 0; j < w; j++) {
+                double x = (c0 + j) * f;
+                gx[j] = (int) Math.floor(x);
+                fx[j] = fade(x - gx[j]);
+            }
+            for (int i = 0; i < h; i++) {
+                double y = (r0 + i) * f;
+                gy[i] = (int) Math.floor(y);
+                fy[i] = fade(y - gy[i]);
+            }
+            int lx = gx[0], ly = gy[0];
+            int lw = gx[w - 1] - lx + 2, lh = gy[h - 1] - ly + 2;
+            double[] lattice = new double[lw * lh];
+            for (int i = 0; i < lh; i++) {
+                for (int j = 0; j < lw; j++) lattice[i * lw + j] = lattice(octaveSeed, lx + j, ly + i);
+            }
+            for (int i = 0; i < h; i++) {
+                int row = (gy[i] - ly) * lw;
+                for (int j = 0; j < w; j++) {
+                    int k = row + gx[j] - lx;
+                    double a = lattice[k], b = lattice[k + 1], c = lattice[k + lw], d = lattice[k + lw + 1];
+                    double top = a + (b - a) * fx[j], bottom = c + (d - c) * fx[j];
+                    sum[i * w + j] += amplitude * (top + (bottom - top) * fy[i]);
+                }
+            }
+            total += amplitude;
+            amplitude *= 0.5;
+            f *= 2;
+        }
+        for (int k = 0; k < sum.length; k++) sum[k] /= total;
+        return sum;
+    }
+
+    // Interpolasi nilai acak di titik kisi bulat dengan fade quintic supaya tidak ada tepi kotak
+    private static double valueNoise(long seed, double x, double y) {
+        int x0 = (int) Math.floor(x), y0 = (int) Math.floor(y);
+        double fx = fade(x - x0), fy = fade(y - y0);
+        double a = lattice(seed, x0, y0), b = lattice(seed, x0 + 1, y0);
+        double c = lattice(seed, x0, y0 + 1), d = lattice(seed, x0 + 1, y0 + 1);
+        double top = a + (b - a) * fx, bottom = c + (d - c) * fx;
+        return top + (bottom - top) * fy;
+    }
+
+    private static double fade(double t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    // Hash splitmix64 dari (seed, x, y) ke [0, 1)
+    private static double lattice(long seed, int x, int y) {
+        long h = seed ^ x * 0x9E3779B97F4A7C15L ^ y * 0xC2B2AE3D27D4EB4FL;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return (h >>> 11) * 0x1.0p-53;
+    }
+}
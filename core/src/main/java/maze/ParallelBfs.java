@@ -0,0 +1,279 @@
+package maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/*
+ * BFS level-synchronous di ForkJoinPool (jumlah langkah, bobot terrain diabaikan).
+ * Visited adalah bitset long[]; top-down mengklaim sel lewat getAndBitwiseOr atomik,
+ * jadi tiap sel punya tepat satu parent dari level sebelumnya.
+ * Direction-optimizing: bila frontier melebihi n / ALPHA, level berikutnya dikerjakan
+ * bottom-up (tiap sel belum dikunjungi memeriksa apakah ada tetangga di bitset frontier),
+ * lalu kembali top-down saat frontier di bawah n / BETA. Frontier top-down disimpan
+ * sebagai daftar int, bukan bitset: maze sempit punya puluhan ribu level dengan frontier
+ * kecil, dan menyapu bitset n/64 word per level akan lebih mahal dari BFS-nya sendiri.
+ * Level kecil dikerjakan langsung tanpa fork.
+ */
+public class ParallelBfs implements MazeSolver {
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    static final int ALPHA = 16, BETA = 64;
+    private static final int GRAIN = 2048;
+    private static final int WORD_GRAIN = 256;
+
+    private final ForkJoinPool pool;
+
+    public ParallelBfs() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelBfs(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public String name() {
+        return "BFS (parallel)";
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolverListener listener) {
+        long t0 = System.nanoTime();
+        Search s = new Search(graph, start, end, listener);
+        s.run();
+        if (s.distance[end] == ShortestPathTree.UNREACHED) {
+            return SolveResult.notFound(name(), s.expanded, s.reached, s.expanded, s.lookups, s.peak, System.nanoTime() - t0);
+        }
+        int[] path = SolveResult.tracePath(s.parent, end);
+        return new SolveResult(name(), path, SolveResult.pathCost(graph, path), s.expanded, s.reached, s.expanded, s.lookups,
+                s.peak, System.nanoTime() - t0);
+    }
+
+    // Jarak langkah ke semua sel yang terjangkau dari source
+    public ShortestPathTree search(WeightedGraph graph, int source) {
+        Search s = new Search(graph, source, -1, null);
+        s.run();
+        return new ShortestPathTree(source, s.distance, s.parent);
+    }
+
+    // Jalankan body(0..tasks-1) di pool, dibelah rekursif seperti BandTask di TiledGenerator
+    static void forEach(ForkJoinPool pool, int tasks, IntConsumer body) {
+        if (tasks == 1) body.accept(0);
+        else pool.invoke(new ChunkTask(body, 0, tasks));
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final IntConsumer body;
+        private final int from, to;
+
+        ChunkTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(body, from, mid), new ChunkTask(body, mid, to));
+        }
+    }
+
+    private final class Search {
+        final WeightedGraph graph;
+        final int n, source, target;
+        final SolverListener listener;
+        final int[] distance, parent;
+        final long[] visited;
+        int expanded, reached, peak;
+        // Bottom-up memindai sel yang belum dikunjungi, bukan frontier
+        long lookups;
+
+        // Frontier: daftar (top-down) atau bitset (bottom-up)
+        int[] frontier, spare;
+        int frontierSize;
+        long[] frontierBits;
+        final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+
+        Search(WeightedGraph graph, int source, int target, SolverListener listener) {
+            this.graph = graph;
+            this.n = graph.size();
+            this.source = source;
+            this.target = target;
+            this.listener = listener;
+            distance = new int[n];
+            parent = new int[n];
+            visited = new long[(n + 63) >>> 6];
+            Arrays.fill(distance, ShortestPathTree.UNREACHED);
+            Arrays.fill(parent, -1);
+        }
+
+        void run() {
+            distance[source] = 0;
+            visited[source >>> 6] |= 1L << source;
+            frontier = new int[] { source };
+            frontierSize = 1;
+            reached = 1;
+            int level = 0;
+            while (frontierSize > 0) {
+                expanded += frontierSize;
+                peak = Math.max(peak, frontierSize);
+                if (listener != null) report();
+                if (target >= 0 && distance[target] != ShortestPathTree.UNREACHED) return;
+
+                if (frontierBits == null && frontierSize > n / ALPHA) toBits();
+                else if (frontierBits != null && frontierSize < n / BETA) toList();
+
+                if (frontierBits == null) topDown(level);
+                else bottomUp(level);
+                reached += frontierSize;
+                level++;
+            }
+        }
+
+        // Listener hanya dipanggil dari thread ini, dalam urutan level
+        private void report() {
+            if (frontierBits == null) {
+                for (int i = 0; i < frontierSize; i++) listener.onExpand(frontier[i]);
+            } else {
+                for (int w = 0; w < frontierBits.length; w++) {
+                    for (long bits = frontierBits[w]; bits != 0; bits &= bits - 1) {
+                        listener.onExpand((w << 6) + Long.numberOfTrailingZeros(bits));
+                    }
+                }
+            }
+        }
+
+        private void toBits() {
+            frontierBits = new long[visited.length];
+            for (int i = 0; i < frontierSize; i++) frontierBits[frontier[i] >>> 6] |= 1L << frontier[i];
+            frontier = null;
+        }
+
+        private void toList() {
+            frontier = new int[frontierSize];
+            int k = 0;
+            for (int w = 0; w < frontierBits.length; w++) {
+                for (long bits = frontierBits[w]; bits != 0; bits &= bits - 1) {
+                    frontier[k++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+            frontierBits = null;
+        }
+
+        // Level kecil ditulis langsung ke buffer cadangan tanpa atomik; level besar per chunk lalu digabung
+        private void topDown(int level) {
+            int chunks = Math.min(pool.getParallelism() * 4, (frontierSize + GRAIN - 1) / GRAIN);
+            if (spare == null || spare.length < n) spare = new int[n];
+            int[] current = frontier;
+            int size = frontierSize;
+            int[] next = spare;
+            lookups += size;
+            if (chunks == 1) {
+                int[] nb = this.nb;
+                int k = 0;
+                for (int i = 0; i < size; i++) {
+                    int u = current[i];
+                    int degree = graph.neighbors(u, nb);
+                    for (int j = 0; j < degree; j++) {
+                        int v = nb[j];
+                        long bit = 1L << v;
+                        if ((visited[v >>> 6] & bit) != 0) continue;
+                        visited[v >>> 6] |= bit;
+                        distance[v] = level + 1;
+                        parent[v] = u;
+                        next[k++] = v;
+                    }
+                }
+                frontierSize = k;
+            } else {
+                int[][] out = new int[chunks][];
+                int[] counts = new int[chunks];
+                forEach(pool, chunks, c -> {
+                    int from = (int) ((long) size * c / chunks), to = (int) ((long) size * (c + 1) / chunks);
+                    int[] nb = new int[WeightedGraph.MAX_DEGREE];
+                    int[] found = new int[Math.max(16, to - from)];
+                    int k = 0;
+                    for (int i = from; i < to; i++) {
+                        int u = current[i];
+                        int degree = graph.neighbors(u, nb);
+                        for (int j = 0; j < degree; j++) {
+                            int v = nb[j];
+                            long bit = 1L << v;
+                            if ((visited[v >>> 6] & bit) != 0) continue;
+                            long old = (long) LONGS.getAndBitwiseOr(visited, v >>> 6, bit);
+                            if ((old & bit) != 0) continue;
+                            distance[v] = level + 1;
+                            parent[v] = u;
+                            if (k == found.length) found = Arrays.copyOf(found, k * 2);
+                            found[k++] = v;
+                        }
+                    }
+                    out[c] = found;
+                    counts[c] = k;
+                });
+                int total = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(out[c], 0, next, total, counts[c]);
+                    total += counts[c];
+                }
+                frontierSize = total;
+            }
+            spare = current.length == n ? current : null;
+            frontier = next;
+        }
+
+        // Tiap chunk memiliki rentang word-nya sendiri, jadi visited/next ditulis tanpa atomik
+        private void bottomUp(int level) {
+            int words = visited.length;
+            int chunks = Math.max(1, Math.min(pool.getParallelism() * 4, words / WORD_GRAIN));
+            long[] current = frontierBits;
+            long[] next = new long[words];
+            int[] counts = new int[chunks];
+            long[] scanned = new long[chunks];
+            forEach(pool, chunks, c -> {
+                int w0 = (int) ((long) words * c / chunks), w1 = (int) ((long) words * (c + 1) / chunks);
+                int[] nb = new int[WeightedGraph.MAX_DEGREE];
+                int k = 0;
+                long lookups = 0;
+                for (int w = w0; w < w1; w++) {
+                    long open = ~visited[w];
+                    if (w == words - 1 && (n & 63) != 0) open &= (1L << n) - 1;
+                    long found = 0;
+                    for (long bits = open; bits != 0; bits &= bits - 1) {
+                        int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        int degree = graph.neighbors(v, nb);
+                        lookups++;
+                        for (int j = 0; j < degree; j++) {
+                            int u = nb[j];
+                            if ((current[u >>> 6] & (1L << u)) != 0) {
+                                distance[v] = level + 1;
+                                parent[v] = u;
+                                found |= 1L << v;
+                                k++;
+                                break;
+                            }
+                        }
+                    }
+                    visited[w] |= found;
+                    next[w] = found;
+                }
+                counts[c] = k;
+                scanned[c] = lookups;
+            });
+            int total = 0;
+            for (int c : counts) total += c;
+            for (long l : scanned) lookups += l;
+            frontierBits = next;
+            frontierSize = total;
+        }
+    }
+}
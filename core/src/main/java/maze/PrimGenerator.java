@@ -0,0 +1,57 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+public class PrimGenerator implements MazeAlgorithm {
+    private static final int[] DR = {-1, 0, 1, 0};
+    private static final int[] DC = {0, 1, 0, -1};
+
+    @Override
+    public String name() {
+        return "Prim";
+    }
+
+    @Override
+    public void carve(MazeGrid grid, Random rand) {
+        int n = grid.size();
+        if (n > Integer.MAX_VALUE >>> 2) {
+            throw new IllegalArgumentException("Maze too large for Prim edge encoding: " + n + " cells");
+        }
+        BitSet visited = new BitSet(n);
+        // Sisi frontier dikodekan sebagai (sel << 2 | arah), hapus acak dengan swap-remove O(1)
+        int[] frontier = new int[Math.min(n, 1 << 16)];
+        int size = 0;
+
+        int current = rand.nextInt(n);
+        visited.set(current);
+        size = addFrontier(grid, current, visited, frontier, size);
+
+        while (size > 0) {
+            int idx = rand.nextInt(size);
+            int edge = frontier[idx];
+            frontier[idx] = frontier[--size];
+
+            int from = edge >>> 2, dir = edge & 3;
+            int to = grid.id(grid.row(from) + DR[dir], grid.col(from) + DC[dir]);
+            if (visited.get(to)) continue;
+
+            grid.removeWall(from, to);
+            visited.set(to);
+            if (frontier.length - size < 4) frontier = Arrays.copyOf(frontier, frontier.length * 2);
+            size = addFrontier(grid, to, visited, frontier, size);
+        }
+    }
+
+    private int addFrontier(MazeGrid grid, int cell, BitSet visited, int[] frontier, int size) {
+        int r = grid.row(cell), c = grid.col(cell);
+        for (int dir = 0; dir < 4; dir++) {
+            int nr = r + DR[dir], nc = c + DC[dir];
+            if (nr >= 0 && nr < grid.rows && nc >= 0 && nc < grid.cols && !visited.get(grid.id(nr, nc))) {
+                frontier[size++] = cell << 2 | dir;
+            }
+        }
+        return size;
+    }
+}
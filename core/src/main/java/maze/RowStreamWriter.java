@@ -0,0 +1,33 @@
+package maze;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+// Menulis baris maze ke stream dalam format MazeFile, jadi hasil Eller bisa langsung di-mmap
+public class RowStreamWriter implements MazeRowSink, Closeable {
+    private final DataOutputStream out;
+    private final byte[] packed;
+
+    public RowStreamWriter(OutputStream out, int rows, int cols, long seed) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.packed = new byte[MazeFile.packedWallBytes(cols)];
+        ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE);
+        MazeFile.writeHeader(header, rows, cols, seed);
+        this.out.write(header.array());
+    }
+
+    @Override
+    public void acceptRow(int row, byte[] walls, byte[] terrain) throws IOException {
+        for (int c = 0; c < walls.length; c += 2) {
+            int hi = c + 1 < walls.length ? walls[c + 1] & 0xF : 0;
+            packed[c >>> 1] = (byte) ((walls[c] & 0xF) | hi << 4);
+        }
+        out.write(packed);
+        out.write(terrain);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,60 @@
+package maze;
+
+import java.util.Arrays;
+
+/*
+ * Buffer pencarian yang dipakai ulang antar-query oleh satu thread. Isi dist/parent
+ * dianggap kosong kecuali stamp sel sama dengan epoch saat ini, jadi reset per query
+ * O(1) dan bukan O(n); yang dibayar hanya sel yang benar-benar disentuh.
+ */
+public class SearchBuffers {
+    static final int INF = Integer.MAX_VALUE;
+
+    final int[] dist;
+    final int[] parent;
+    final IntPriorityQueue queue;
+    final int[] nb = new int[WeightedGraph.MAX_DEGREE];
+    // seen[v] == epoch: dist/parent valid; closed[v] == epoch: sudah di-expand
+    private final int[] seen;
+    private final int[] closed;
+    private int epoch;
+
+    public SearchBuffers(int capacity, IntPriorityQueue queue) {
+        dist = new int[capacity];
+        parent = new int[capacity];
+        seen = new int[capacity];
+        closed = new int[capacity];
+        this.queue = queue;
+    }
+
+    public int capacity() {
+        return dist.length;
+    }
+
+    void begin() {
+        queue.clear();
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            epoch = 1;
+        }
+    }
+
+    int dist(int v) {
+        return seen[v] == epoch ? dist[v] : INF;
+    }
+
+    void reach(int v, int d, int from) {
+        seen[v] = epoch;
+        dist[v] = d;
+        parent[v] = from;
+    }
+
+    boolean isClosed(int v) {
+        return closed[v] == epoch;
+    }
+
+    void close(int v) {
+        closed[v] = epoch;
+    }
+}
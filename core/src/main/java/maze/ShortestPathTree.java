@@ -0,0 +1,25 @@
+package maze;
+
+// Peta jarak dan parent dari satu sumber; parent -1 di sumber dan di sel yang tak terjangkau
+public class ShortestPathTree {
+    public static final int UNREACHED = Integer.MAX_VALUE;
+
+    public final int source;
+    public final int[] distance;
+    public final int[] parent;
+
+    public ShortestPathTree(int source, int[] distance, int[] parent) {
+        this.source = source;
+        this.distance = distance;
+        this.parent = parent;
+    }
+
+    public boolean reached(int cell) {
+        return distance[cell] != UNREACHED;
+    }
+
+    // Path sumber -> target lewat SolveResult.tracePath; kosong bila tak terjangkau
+    public int[] path(int target) {
+        return reached(target) ? SolveResult.tracePath(parent, target) : new int[0];
+    }
+}
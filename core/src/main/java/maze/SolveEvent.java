@@ -0,0 +1,52 @@
+package maze;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Satu event JFR per solve; durasi event = waktu solve di thread pemanggil
+@Name("maze.Solve")
+@Label("Maze Solve")
+@Category({"Maze", "Solver"})
+class SolveEvent extends Event {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Cells")
+    int cells;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Path Cost")
+    int cost;
+
+    @Label("Path Length")
+    int pathLength;
+
+    @Label("Expanded")
+    int expanded;
+
+    @Label("Pushes")
+    int pushes;
+
+    @Label("Pops")
+    int pops;
+
+    @Label("Peak Frontier")
+    int peakFrontier;
+
+    @Label("Neighbor Lookups")
+    long neighborLookups;
+
+    @Label("Nanos per Expansion")
+    double nanosPerExpansion;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the calling thread; worker threads of parallel solvers are not included")
+    @DataAmount
+    long allocated;
+}
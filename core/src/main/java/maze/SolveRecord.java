@@ -0,0 +1,16 @@
+package maze;
+
+// Satu baris hasil batch: satu solver pada satu maze
+public final class SolveRecord {
+    public final long index;
+    public final MazeSpec spec;
+    public final String solver;
+    public final SolveResult result;
+
+    public SolveRecord(long index, MazeSpec spec, String solver, SolveResult result) {
+        this.index = index;
+        this.spec = spec;
+        this.solver = solver;
+        this.result = result;
+    }
+}
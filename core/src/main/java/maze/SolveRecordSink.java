@@ -0,0 +1,9 @@
+package maze;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Tujuan hasil MazePipeline; hanya dipanggil dari satu thread, urutan record tidak dijamin
+public interface SolveRecordSink extends Closeable {
+    void accept(SolveRecord record) throws IOException;
+}
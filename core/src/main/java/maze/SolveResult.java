@@ -0,0 +1,69 @@
+package maze;
+
+public class SolveResult {
+    public final String algorithm;
+    public final int[] path;
+    public final int cost;
+    public final int expanded;
+    public final int pushes;
+    public final int peakFrontier;
+    public final long nanos;
+    public final int pops;
+    public final long neighborLookups;
+
+    // Antrian ber-indeks: tiap pop adalah satu ekspansi dan tiap ekspansi memindai tetangga sekali
+    public SolveResult(String algorithm, int[] path, int cost, int expanded, int pushes, int peakFrontier, long nanos) {
+        this(algorithm, path, cost, expanded, pushes, expanded, expanded, peakFrontier, nanos);
+    }
+
+    public SolveResult(String algorithm, int[] path, int cost, int expanded, int pushes, int pops,
+                       long neighborLookups, int peakFrontier, long nanos) {
+        this.algorithm = algorithm;
+        this.path = path;
+        this.cost = cost;
+        this.expanded = expanded;
+        this.pushes = pushes;
+        this.pops = pops;
+        this.neighborLookups = neighborLookups;
+        this.peakFrontier = peakFrontier;
+        this.nanos = nanos;
+    }
+
+    public boolean found() {
+        return path.length > 0;
+    }
+
+    // Susun path dari array parent (-1 = akar); biaya = jumlah bobot tanpa sel awal
+    static int[] tracePath(int[] parent, int end) {
+        int length = 0;
+        for (int c = end; c != -1; c = parent[c]) length++;
+        int[] path = new int[length];
+        for (int c = end, i = length - 1; c != -1; c = parent[c]) path[i--] = c;
+        return path;
+    }
+
+    static int pathCost(WeightedGraph graph, int[] path) {
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) cost += graph.weight(path[i]);
+        return cost;
+    }
+
+    static SolveResult notFound(String algorithm, int expanded, int pushes, int peakFrontier, long nanos) {
+        return new SolveResult(algorithm, new int[0], -1, expanded, pushes, peakFrontier, nanos);
+    }
+
+    static SolveResult notFound(String algorithm, int expanded, int pushes, int pops, long neighborLookups,
+                                int peakFrontier, long nanos) {
+        return new SolveResult(algorithm, new int[0], -1, expanded, pushes, pops, neighborLookups, peakFrontier, nanos);
+    }
+
+    public double nanosPerExpansion() {
+        return expanded == 0 ? 0 : (double) nanos / expanded;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + ": cost=" + cost + " length=" + path.length + " expanded=" + expanded
+                + " pushes=" + pushes + " pops=" + pops + " lookups=" + neighborLookups + " peakFrontier=" + peakFrontier + " time=" + nanos / 1000 + "us";
+    }
+}
@@ -0,0 +1,5 @@
+package maze;
+
+public interface SolverListener {
+    void onExpand(int cell);
+}
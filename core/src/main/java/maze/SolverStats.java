@@ -0,0 +1,119 @@
+package maze;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Diperbarui dari banyak thread sekaligus (BatchSolver, UI), jadi semua penghitung lock-free
+public class SolverStats implements SolverStatsMBean {
+    private final String algorithm;
+    private final LongAdder solves = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder expanded = new LongAdder();
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder pops = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private final AtomicInteger peak = new AtomicInteger();
+    private volatile boolean allocationSupported = true;
+    private volatile String last = "";
+
+    public SolverStats(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    void record(SolveResult result, long allocatedBytes) {
+        solves.increment();
+        if (!result.found()) notFound.increment();
+        expanded.add(result.expanded);
+        pushes.add(result.pushes);
+        pops.add(result.pops);
+        lookups.add(result.neighborLookups);
+        nanos.add(result.nanos);
+        if (allocatedBytes < 0) allocationSupported = false;
+        else allocated.add(allocatedBytes);
+        peak.accumulateAndGet(result.peakFrontier, Math::max);
+        last = result.toString();
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public long getSolveCount() {
+        return solves.sum();
+    }
+
+    @Override
+    public long getNotFoundCount() {
+        return notFound.sum();
+    }
+
+    @Override
+    public long getTotalExpanded() {
+        return expanded.sum();
+    }
+
+    @Override
+    public long getTotalPushes() {
+        return pushes.sum();
+    }
+
+    @Override
+    public long getTotalPops() {
+        return pops.sum();
+    }
+
+    @Override
+    public long getTotalNeighborLookups() {
+        return lookups.sum();
+    }
+
+    @Override
+    public int getMaxPeakFrontier() {
+        return peak.get();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return nanos.sum();
+    }
+
+    @Override
+    public double getNanosPerExpansion() {
+        long e = expanded.sum();
+        return e == 0 ? 0 : (double) nanos.sum() / e;
+    }
+
+    @Override
+    public long getTotalAllocatedBytes() {
+        return allocationSupported ? allocated.sum() : -1;
+    }
+
+    @Override
+    public double getAllocatedBytesPerSolve() {
+        long n = solves.sum();
+        return n == 0 || !allocationSupported ? 0 : (double) allocated.sum() / n;
+    }
+
+    @Override
+    public String getLastResult() {
+        return last;
+    }
+
+    @Override
+    public void reset() {
+        solves.reset();
+        notFound.reset();
+        expanded.reset();
+        pushes.reset();
+        pops.reset();
+        lookups.reset();
+        nanos.reset();
+        allocated.reset();
+        peak.set(0);
+        last = "";
+    }
+}
@@ -0,0 +1,33 @@
+package maze;
+
+// Statistik kumulatif satu algoritma solver, dibaca lewat JMX (jconsole, VisualVM, dst.)
+public interface SolverStatsMBean {
+    String getAlgorithm();
+
+    long getSolveCount();
+
+    long getNotFoundCount();
+
+    long getTotalExpanded();
+
+    long getTotalPushes();
+
+    long getTotalPops();
+
+    long getTotalNeighborLookups();
+
+    int getMaxPeakFrontier();
+
+    long getTotalNanos();
+
+    double getNanosPerExpansion();
+
+    // -1 bila JVM tidak mendukung pengukuran alokasi per thread
+    long getTotalAllocatedBytes();
+
+    double getAllocatedBytesPerSolve();
+
+    String getLastResult();
+
+    void reset();
+}
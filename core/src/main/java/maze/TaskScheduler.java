@@ -0,0 +1,116 @@
+package maze;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Executor terbatas untuk pekerjaan latar (generate, solve): jumlah worker dan panjang
+ * antrian tetap, thread daemon. Setiap tugas membawa CancellationToken; cancel() menandai
+ * token dan langsung membuang tugas yang masih antri, sedangkan tugas yang sedang jalan
+ * berhenti sendiri di titik periksa berikutnya.
+ */
+public class TaskScheduler implements AutoCloseable {
+    public interface Work<T> {
+        T run(CancellationToken token) throws Exception;
+    }
+
+    public static final class Task<T> extends FutureTask<T> {
+        private final CancellationToken token;
+        private final ThreadPoolExecutor owner;
+
+        private Task(Work<T> work, CancellationToken token, ThreadPoolExecutor owner) {
+            super(() -> work.run(token));
+            this.token = token;
+            this.owner = owner;
+        }
+
+        public CancellationToken token() {
+            return token;
+        }
+
+        // Tanpa interrupt: pembatalan selalu lewat token
+        public void cancel() {
+            cancel(false);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            token.cancel();
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            owner.remove(this);
+            return cancelled;
+        }
+
+        // FutureTask menelan exception; laporkan seperti thread biasa kecuali karena pembatalan
+        @Override
+        protected void done() {
+            if (isCancelled()) return;
+            try {
+                get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) return;
+                if (e.getCause() instanceof InterruptedException && owner.isShutdown()) return;
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Hasil tugas, atau exception aslinya; CancellationException bila dibatalkan
+        public T join() throws InterruptedException {
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    public TaskScheduler(String name, int workers, int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    // RejectedExecutionException bila antrian penuh atau scheduler sudah ditutup
+    public <T> Task<T> submit(Work<T> work) {
+        Task<T> task = new Task<>(work, new CancellationToken(), executor);
+        executor.execute(task);
+        return task;
+    }
+
+    // Batalkan tugas sebelumnya (boleh null) lalu jadwalkan penggantinya
+    public <T> Task<T> supersede(Task<?> previous, Work<T> work) {
+        if (previous != null) previous.cancel();
+        return submit(work);
+    }
+
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        for (Runnable r : executor.shutdownNow()) {
+            if (r instanceof Task) ((Task<?>) r).cancel();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package maze;
+
+import java.util.Random;
+
+// Distribusi terrain acak: 45% stone, 20% grass, 17% sand, 18% lava
+public class TerrainAssigner {
+    private TerrainAssigner() {}
+
+    public static TerrainType pick(Random rand) {
+        int r = rand.nextInt(100);
+        if (r < 45) return TerrainType.STONE;
+        else if (r < 65) return TerrainType.GRASS;
+        else if (r < 82) return TerrainType.SAND;
+        else return TerrainType.LAVA;
+    }
+
+    // Start (pojok kiri atas) dan end (pojok kanan bawah) selalu stone
+    public static boolean isEndpoint(int row, int col, int rows, int cols) {
+        return (row == 0 && col == 0) || (row == rows - 1 && col == cols - 1);
+    }
+
+    public static void assign(MazeGrid grid, Random rand) {
+        int n = grid.size();
+        for (int id = 0; id < n; id++) grid.setTerrain(id, pick(rand));
+        grid.setTerrain(0, TerrainType.STONE);
+        grid.setTerrain(n - 1, TerrainType.STONE);
+    }
+}
@@ -1,3 +1,5 @@
+package maze;
+
 import java.awt.Color;
 
 public enum TerrainType {
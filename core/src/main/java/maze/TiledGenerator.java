@@ -0,0 +1,128 @@
+package maze;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * Generator paralel: grid dipotong menjadi tile, tiap tile diukir sendiri-sendiri di
+ * ForkJoinPool, lalu tile disambung lewat spanning tree antar-tile (satu bukaan per
+ * sisi pohon) sehingga hasilnya tetap satu maze sempurna. Seed tiap tile diturunkan
+ * dari seed induk, jadi hasilnya sama berapa pun jumlah thread-nya.
+ */
+public class TiledGenerator implements MazeAlgorithm {
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private final MazeAlgorithm tileAlgorithm;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator() {
+        this(new PrimGenerator(), DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public TiledGenerator(MazeAlgorithm tileAlgorithm, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 2) throw new IllegalArgumentException("tileSize must be at least 2");
+        this.tileAlgorithm = tileAlgorithm;
+        // Tinggi tile genap supaya tiap band baris mulai di byte dinding sendiri (2 sel per byte)
+        this.tileSize = tileSize + (tileSize & 1);
+        this.pool = pool;
+    }
+
+    @Override
+    // Ukuran tile mengubah hasil (MazeSpec membedakan generator lewat nama), pool tidak
+    public String name() {
+        return "Tiled " + tileAlgorithm.name() + " (tile " + tileSize + ")";
+    }
+
+    @Override
+    public void carve(MazeGrid grid, Random rand) {
+        long seed = rand.nextLong();
+        int tileRows = (grid.rows + tileSize - 1) / tileSize;
+        int tileCols = (grid.cols + tileSize - 1) / tileSize;
+
+        pool.invoke(new BandTask(grid, seed, tileCols, 0, tileRows));
+        stitch(grid, new Random(mix(seed, -1)), tileRows, tileCols);
+    }
+
+    // Satu task menangani satu atau lebih band tile utuh; band berbeda tidak berbagi byte dinding
+    private class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final MazeGrid grid;
+        private final long seed;
+        private final int tileCols, from, to;
+
+        BandTask(MazeGrid grid, long seed, int tileCols, int from, int to) {
+            this.grid = grid;
+            this.seed = seed;
+            this.tileCols = tileCols;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BandTask(grid, seed, tileCols, from, mid),
+                          new BandTask(grid, seed, tileCols, mid, to));
+                return;
+            }
+            for (int tc = 0; tc < tileCols; tc++) carveTile(grid, from, tc, new Random(mix(seed, (long) from * tileCols + tc)));
+        }
+    }
+
+    private void carveTile(MazeGrid grid, int tr, int tc, Random rand) {
+        int r0 = tr * tileSize, c0 = tc * tileSize;
+        int h = Math.min(tileSize, grid.rows - r0);
+        int w = Math.min(tileSize, grid.cols - c0);
+        MazeGrid tile = new MazeGrid(h, w);
+        tileAlgorithm.carve(tile, rand);
+        for (int i = 0; i < h; i++) {
+            int base = grid.id(r0 + i, c0);
+            for (int j = 0; j < w; j++) grid.setWalls(base + j, tile.walls(tile.id(i, j)));
+        }
+    }
+
+    // Kruskal di atas grid tile, lalu buka satu dinding acak di perbatasan tiap sisi terpilih
+    private void stitch(MazeGrid grid, Random rand, int tileRows, int tileCols) {
+        int tiles = tileRows * tileCols;
+        int[] edges = new int[2 * tiles];
+        int count = 0;
+        for (int t = 0; t < tiles; t++) {
+            if (t % tileCols < tileCols - 1) edges[count++] = t << 1;
+            if (t / tileCols < tileRows - 1) edges[count++] = t << 1 | 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int k = rand.nextInt(i + 1);
+            int tmp = edges[i]; edges[i] = edges[k]; edges[k] = tmp;
+        }
+
+        UnionFind sets = new UnionFind(tiles);
+        for (int i = 0; i < count; i++) {
+            int e = edges[i];
+            int t = e >>> 1;
+            boolean horizontal = (e & 1) == 0;
+            if (!sets.union(t, horizontal ? t + 1 : t + tileCols)) continue;
+
+            int r0 = (t / tileCols) * tileSize, c0 = (t % tileCols) * tileSize;
+            if (horizontal) {
+                int c = c0 + tileSize - 1;
+                int r = r0 + rand.nextInt(Math.min(tileSize, grid.rows - r0));
+                grid.removeWall(grid.id(r, c), grid.id(r, c + 1));
+            } else {
+                int r = r0 + tileSize - 1;
+                int c = c0 + rand.nextInt(Math.min(tileSize, grid.cols - c0));
+                grid.removeWall(grid.id(r, c), grid.id(r + 1, c));
+            }
+        }
+    }
+
+    // SplitMix64, untuk menurunkan seed per tile yang tidak berkorelasi
+    static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
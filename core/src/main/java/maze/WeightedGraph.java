@@ -0,0 +1,85 @@
+package maze;
+
+import java.util.*;
+
+public class WeightedGraph {
+    public static final int MAX_DEGREE = 4;
+
+    private MazeView grid;
+    private int rows, cols;
+    // CSR opsional: null berarti tetangga dihitung langsung dari bit dinding
+    private int[] offsets, targets;
+
+    public WeightedGraph(Cell[][] maze, int rows, int cols) {
+        this(MazeGrid.fromCells(maze, rows, cols));
+    }
+
+    public WeightedGraph(MazeView grid) {
+        this(grid, false);
+    }
+
+    public WeightedGraph(MazeView grid, boolean compressed) {
+        this.grid = grid;
+        this.rows = grid.rows();
+        this.cols = grid.cols();
+        if (compressed) buildCsr();
+    }
+
+    private void buildCsr() {
+        int n = grid.size();
+        int[] buf = new int[MAX_DEGREE];
+        int[] off = new int[n + 1];
+        int[] tgt = new int[4 * n];
+        int e = 0;
+        for (int id = 0; id < n; id++) {
+            off[id] = e;
+            int k = implicitNeighbors(id, buf);
+            for (int i = 0; i < k; i++) tgt[e++] = buf[i];
+        }
+        off[n] = e;
+        offsets = off;
+        targets = Arrays.copyOf(tgt, e);
+    }
+
+    public MazeView getGrid() {
+        return grid;
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    public int weight(int id) {
+        return grid.weight(id);
+    }
+
+    // Tulis tetangga id ke out (minimal MAX_DEGREE), kembalikan jumlahnya tanpa alokasi
+    public int neighbors(int id, int[] out) {
+        if (offsets != null) {
+            int from = offsets[id], to = offsets[id + 1];
+            for (int i = from; i < to; i++) out[i - from] = targets[i];
+            return to - from;
+        }
+        return implicitNeighbors(id, out);
+    }
+
+    private int implicitNeighbors(int id, int[] out) {
+        int w = grid.walls(id);
+        int i = id / cols, j = id % cols;
+        int k = 0;
+        // Cek dinding, jika tidak ada dinding berarti bertetangga
+        if ((w & MazeGrid.TOP) == 0 && i > 0) out[k++] = id - cols;
+        if ((w & MazeGrid.RIGHT) == 0 && j < cols-1) out[k++] = id + 1;
+        if ((w & MazeGrid.BOTTOM) == 0 && i < rows-1) out[k++] = id + cols;
+        if ((w & MazeGrid.LEFT) == 0 && j > 0) out[k++] = id - 1;
+        return k;
+    }
+
+    public List<Cell> getNeighbors(Cell cell) {
+        int[] buf = new int[MAX_DEGREE];
+        int k = neighbors(grid.id(cell.row, cell.col), buf);
+        List<Cell> result = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) result.add(grid.toCell(buf[i]));
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Batas ALT admissible dan konsisten, jadi ALT satu dan dua arah harus seoptimal Dijkstra
+class AltSolverTest {
+    private static MazeSolver[] solvers(Landmarks landmarks) {
+        return new MazeSolver[] {
+            new AltSolver(landmarks), new BidirectionalAltSolver(landmarks, false), new BidirectionalAltSolver(landmarks, true)
+        };
+    }
+
+    @Test
+    void matchesDijkstraOnBraidedMazes() {
+        for (long seed = 1; seed <= 6; seed++) {
+            MazeGrid grid = SolverAssertions.maze(30, 30 + 3 * (int) seed, seed % 2 == 0 ? 0.05 : 0.4, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int count : new int[] {1, 4, Landmarks.DEFAULT_COUNT}) {
+                Landmarks landmarks = Landmarks.select(graph, count);
+                for (int[] q : SolverAssertions.queries(grid, new Random(seed * count), 40)) {
+                    for (MazeSolver solver : solvers(landmarks)) {
+                        SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void estimateIsALowerBound() {
+        MazeGrid grid = SolverAssertions.maze(25, 25, 0.3, 12);
+        WeightedGraph graph = new WeightedGraph(grid);
+        Landmarks landmarks = Landmarks.select(graph, Landmarks.DEFAULT_COUNT);
+        Random rand = new Random(12);
+        for (int i = 0; i < 300; i++) {
+            int a = rand.nextInt(graph.size()), b = rand.nextInt(graph.size());
+            int cost = new DijkstraSolver().solve(graph, a, b, null).cost;
+            assertTrue(landmarks.estimate(a, b) <= cost, a + " -> " + b);
+        }
+    }
+
+    @Test
+    void disconnectedRegionsAreNotFound() {
+        MazeGrid grid = SolverAssertions.maze(24, 24, 0.5, 4);
+        SolverAssertions.enclose(grid, 5, 5, 6, 6);
+        WeightedGraph graph = new WeightedGraph(grid);
+        Landmarks landmarks = Landmarks.select(graph, Landmarks.DEFAULT_COUNT);
+        int inside = grid.id(7, 7), outside = grid.id(20, 3);
+        for (MazeSolver solver : solvers(landmarks)) {
+            assertFalse(solver.solve(graph, inside, outside, null).found(), solver.name());
+            assertFalse(solver.solve(graph, outside, inside, null).found(), solver.name());
+            SolverAssertions.assertOptimal(graph, solver.solve(graph, inside, grid.id(10, 10), null), inside, grid.id(10, 10));
+            SolverAssertions.assertOptimal(graph, solver.solve(graph, outside, 0, null), outside, 0);
+        }
+    }
+
+    @Test
+    void startEqualsEndIsAOneCellPath() {
+        WeightedGraph graph = new WeightedGraph(SolverAssertions.maze(12, 12, 0.3, 5));
+        for (MazeSolver solver : solvers(Landmarks.select(graph, 4))) {
+            SolveResult r = solver.solve(graph, 77, 77, null);
+            assertArrayEquals(new int[] {77}, r.path, solver.name());
+            assertEquals(0, r.cost, solver.name());
+        }
+    }
+}
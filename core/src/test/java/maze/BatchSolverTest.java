@@ -0,0 +1,95 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// SearchBuffers dipakai ulang lintas query: tiap hasil harus sama dengan solve tersendiri
+class BatchSolverTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void everyQueryMatchesDijkstra() {
+        for (long seed = 1; seed <= 4; seed++) {
+            MazeGrid grid = SolverAssertions.maze(40, 45, 0.3, seed);
+            SolverAssertions.enclose(grid, 10, 10, 5, 5);
+            WeightedGraph graph = new WeightedGraph(grid);
+            int[][] q = SolverAssertions.queries(grid, new Random(seed), 500);
+            int[] starts = new int[q.length + 2], ends = new int[q.length + 2];
+            for (int i = 0; i < q.length; i++) {
+                starts[i] = q[i][0];
+                ends[i] = q[i][1];
+            }
+            // Satu query tak terjangkau di tengah batch tidak boleh merusak buffer query berikutnya
+            starts[q.length] = grid.id(12, 12);
+            ends[q.length] = grid.id(30, 30);
+            starts[q.length + 1] = grid.id(12, 12);
+            ends[q.length + 1] = grid.id(14, 14);
+
+            DijkstraSolver[] solvers = { new DijkstraSolver(), new AltSolver(Landmarks.select(graph, 4)) };
+            for (DijkstraSolver solver : solvers) {
+                SolveResult[] results = new BatchSolver(graph, solver, pool).solveAll(starts, ends);
+                assertEquals(starts.length, results.length);
+                for (int i = 0; i < results.length; i++) {
+                    SolverAssertions.assertOptimal(graph, results[i], starts[i], ends[i]);
+                }
+                assertFalse(results[q.length].found());
+            }
+        }
+    }
+
+    @Test
+    void aStarBatchMatchesSingleSolves() {
+        MazeGrid grid = SolverAssertions.maze(30, 30, 0.3, 8);
+        WeightedGraph graph = new WeightedGraph(grid);
+        int[][] q = SolverAssertions.queries(grid, new Random(8), 200);
+        int[] starts = new int[q.length], ends = new int[q.length];
+        for (int i = 0; i < q.length; i++) {
+            starts[i] = q[i][0];
+            ends[i] = q[i][1];
+        }
+        SolveResult[] results = new BatchSolver(graph, new AStarSolver(), pool).solveAll(starts, ends);
+        for (int i = 0; i < q.length; i++) {
+            SolveResult single = new AStarSolver().solve(graph, starts[i], ends[i], null);
+            assertEquals(single.cost, results[i].cost);
+            assertArrayEquals(single.path, results[i].path);
+        }
+    }
+
+    @Test
+    void startEqualsEndAndEmptyBatches() {
+        WeightedGraph graph = new WeightedGraph(SolverAssertions.maze(8, 8, 0.3, 1));
+        BatchSolver batch = new BatchSolver(graph, new DijkstraSolver(), pool);
+        SolveResult[] results = batch.solveAll(new int[] {5, 9}, new int[] {5, 9});
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, results[i].path.length);
+            assertEquals(0, results[i].cost);
+        }
+        assertEquals(0, batch.solveAll(new int[0], new int[0]).length);
+    }
+
+    @Test
+    void rejectsMalformedQueries() {
+        BatchSolver batch = new BatchSolver(new WeightedGraph(new MazeGrid(4, 4)), new DijkstraSolver(), pool);
+        assertThrows(IllegalArgumentException.class, () -> batch.solveAll(new int[] {0, 1}, new int[] {2}));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.solveAll(new int[] {0}, new int[] {16}));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.solveAll(new int[] {-1}, new int[] {3}));
+    }
+}
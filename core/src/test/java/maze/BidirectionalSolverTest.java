@@ -0,0 +1,103 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Kondisi berhenti dua arah diuji terhadap Dijkstra/BFS satu arah, termasuk mode dua thread
+class BidirectionalSolverTest {
+    private static final MazeSolver[] DIJKSTRA = { new BidirectionalDijkstraSolver(), new BidirectionalDijkstraSolver(true) };
+    private static final MazeSolver[] ASTAR = { new BidirectionalAStarSolver(), new BidirectionalAStarSolver(true) };
+
+    @Test
+    void dijkstraMatchesOnBraidedMazes() {
+        for (long seed = 1; seed <= 8; seed++) {
+            MazeGrid grid = SolverAssertions.maze(25 + (int) seed, 40, seed % 2 == 0 ? 0.1 : 0.5, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int[] q : SolverAssertions.queries(grid, new Random(seed), 60)) {
+                for (MazeSolver solver : DIJKSTRA) {
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void dijkstraMatchesOnStoneHeavyMazes() {
+        // Banyak sel berbobot 0: seri antar jalur paling sering di sini
+        MazeGrid grid = SolverAssertions.maze(30, 30, 0.4, 3);
+        Random rand = new Random(3);
+        for (int id = 0; id < grid.size(); id++) {
+            if (rand.nextInt(4) != 0) grid.setTerrain(id, TerrainType.STONE);
+        }
+        WeightedGraph graph = new WeightedGraph(grid, true);
+        for (int[] q : SolverAssertions.queries(grid, rand, 80)) {
+            for (MazeSolver solver : DIJKSTRA) {
+                SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+            }
+            for (MazeSolver solver : ASTAR) {
+                SolverAssertions.assertValid(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+            }
+        }
+    }
+
+    @Test
+    void aStarIsOptimalWithoutStone() {
+        for (long seed = 1; seed <= 8; seed++) {
+            MazeGrid grid = SolverAssertions.maze(30, 25 + (int) seed, 0.3, seed);
+            SolverAssertions.removeStone(grid);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int[] q : SolverAssertions.queries(grid, new Random(seed), 60)) {
+                for (MazeSolver solver : ASTAR) {
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bfsMatchesStepCountOfPlainBfs() {
+        for (long seed = 1; seed <= 6; seed++) {
+            MazeGrid grid = SolverAssertions.maze(35, 28, 0.3, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int[] q : SolverAssertions.queries(grid, new Random(seed), 60)) {
+                SolveResult expected = new BfsSolver().solve(graph, q[0], q[1], null);
+                SolveResult actual = new BidirectionalBfsSolver().solve(graph, q[0], q[1], null);
+                assertEquals(expected.path.length, actual.path.length, q[0] + " -> " + q[1]);
+                SolverAssertions.assertValidPath(graph, actual.path, q[0], q[1], actual.algorithm);
+                assertEquals(SolveResult.pathCost(graph, actual.path), actual.cost);
+            }
+        }
+    }
+
+    @Test
+    void unreachableTargetIsNotFound() {
+        MazeGrid grid = SolverAssertions.maze(20, 20, 0.5, 9);
+        SolverAssertions.enclose(grid, 8, 8, 4, 4);
+        WeightedGraph graph = new WeightedGraph(grid);
+        int inside = grid.id(9, 9), outside = grid.id(0, 0), corner = grid.id(11, 11);
+        for (MazeSolver solver : all()) {
+            assertFalse(solver.solve(graph, outside, inside, null).found(), solver.name());
+            assertFalse(solver.solve(graph, inside, outside, null).found(), solver.name());
+            SolveResult r = solver.solve(graph, inside, corner, null);
+            SolverAssertions.assertValidPath(graph, r.path, inside, corner, solver.name());
+        }
+    }
+
+    @Test
+    void startEqualsEndIsAOneCellPath() {
+        WeightedGraph graph = new WeightedGraph(SolverAssertions.maze(10, 10, 0.3, 2));
+        for (MazeSolver solver : all()) {
+            SolveResult r = solver.solve(graph, 42, 42, null);
+            assertArrayEquals(new int[] {42}, r.path, solver.name());
+            assertEquals(0, r.cost, solver.name());
+        }
+    }
+
+    private static MazeSolver[] all() {
+        return new MazeSolver[] { new BidirectionalBfsSolver(), DIJKSTRA[0], DIJKSTRA[1], ASTAR[0], ASTAR[1] };
+    }
+}
@@ -0,0 +1,112 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Peta jarak DeltaStepping.search harus identik dengan Dijkstra untuk delta dan pool berapa pun
+class DeltaSteppingTest {
+    private static final int[] DELTAS = {1, 2, DeltaStepping.DEFAULT_DELTA, 5, MazeGrid.MAX_WEIGHT, 25};
+
+    private static ForkJoinPool pool, single;
+
+    @BeforeAll
+    static void startPools() {
+        pool = new ForkJoinPool(4);
+        single = new ForkJoinPool(1);
+    }
+
+    @AfterAll
+    static void stopPools() {
+        pool.shutdown();
+        single.shutdown();
+    }
+
+    @Test
+    void braidedMazesMatchDijkstra() {
+        for (long seed = 1; seed <= 4; seed++) {
+            WeightedGraph graph = new WeightedGraph(ParallelBfsTest.maze(50, 70, 0.3, seed));
+            int source = new Random(seed).nextInt(graph.size());
+            int[] expected = dijkstraDistances(graph, source);
+            for (int delta : DELTAS) {
+                assertMatches(graph, source, expected, new DeltaStepping(delta, pool));
+                assertMatches(graph, source, expected, new DeltaStepping(delta, single));
+            }
+        }
+    }
+
+    @Test
+    void largeBucketsAreRelaxedInChunks() {
+        // Grid terbuka 400x400: dengan delta besar satu bucket berisi ribuan sel, di atas GRAIN 1024
+        WeightedGraph graph = new WeightedGraph(ParallelBfsTest.maze(400, 400, 1.0, 21));
+        int source = 200 * 400 + 200;
+        int[] expected = dijkstraDistances(graph, source);
+        for (int delta : new int[] {DeltaStepping.DEFAULT_DELTA, MazeGrid.MAX_WEIGHT, 40}) {
+            assertMatches(graph, source, expected, new DeltaStepping(delta, pool));
+        }
+    }
+
+    @Test
+    void stoneFloodFillsOneBucket() {
+        // Semua stone (bobot 0): seluruh komponen jatuh ke bucket 0 dan fase light berulang
+        MazeGrid grid = ParallelBfsTest.maze(300, 300, 0.5, 5);
+        for (int id = 0; id < grid.size(); id++) {
+            if (id % 97 != 0) grid.setTerrain(id, TerrainType.STONE);
+        }
+        WeightedGraph graph = new WeightedGraph(grid, true);
+        int[] expected = dijkstraDistances(graph, 0);
+        assertMatches(graph, 0, expected, new DeltaStepping(1, pool));
+        assertMatches(graph, 0, expected, new DeltaStepping(DeltaStepping.DEFAULT_DELTA, pool));
+    }
+
+    private static void assertMatches(WeightedGraph graph, int source, int[] expected, DeltaStepping solver) {
+        ShortestPathTree tree = solver.search(graph, source);
+        assertArrayEquals(expected, tree.distance, solver.name());
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        for (int v = 0; v < graph.size(); v++) {
+            int p = tree.parent[v];
+            if (v == source || !tree.reached(v)) {
+                assertEquals(-1, p);
+                continue;
+            }
+            assertEquals(tree.distance[p] + graph.weight(v), tree.distance[v]);
+            int degree = graph.neighbors(p, nb);
+            boolean adjacent = false;
+            for (int k = 0; k < degree; k++) adjacent |= nb[k] == v;
+            assertTrue(adjacent, "parent " + p + " is not adjacent to " + v);
+        }
+    }
+
+    private static int[] dijkstraDistances(WeightedGraph graph, int source) {
+        int n = graph.size();
+        int[] distance = new int[n];
+        Arrays.fill(distance, ShortestPathTree.UNREACHED);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        PriorityQueue<long[]> open = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        distance[source] = 0;
+        open.add(new long[] {0, source});
+        while (!open.isEmpty()) {
+            long[] top = open.poll();
+            int u = (int) top[1];
+            if (top[0] > distance[u]) continue;
+            int degree = graph.neighbors(u, nb);
+            for (int j = 0; j < degree; j++) {
+                int v = nb[j];
+                int d = distance[u] + graph.weight(v);
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    open.add(new long[] {d, v});
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,105 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Semua bukaan antar-cluster adalah entrance, jadi HPA* harus seoptimal Dijkstra penuh
+class HierarchicalSolverTest {
+    private static final int[] CLUSTER_SIZES = {1, 4, 7, HierarchicalGraph.DEFAULT_CLUSTER_SIZE};
+
+    @Test
+    void randomQueriesMatchDijkstra() {
+        for (long seed = 1; seed <= 4; seed++) {
+            MazeGrid grid = SolverAssertions.maze(45, 38, seed % 2 == 0 ? 0.05 : 0.4, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int size : CLUSTER_SIZES) {
+                HierarchicalSolver solver = new HierarchicalSolver(new HierarchicalGraph(graph, size));
+                for (int[] q : SolverAssertions.queries(grid, new Random(seed * size), 60)) {
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameClusterQueriesMatchDijkstra() {
+        // Jalur terpendek antara dua sel satu cluster bisa keluar lalu masuk lagi lewat cluster lain
+        for (long seed = 1; seed <= 4; seed++) {
+            MazeGrid grid = SolverAssertions.maze(40, 40, 0.1, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            for (int size : new int[] {4, 8, 13}) {
+                HierarchicalGraph hierarchy = new HierarchicalGraph(graph, size);
+                HierarchicalSolver solver = new HierarchicalSolver(hierarchy);
+                Random rand = new Random(seed + size);
+                for (int i = 0; i < 150; i++) {
+                    int s = rand.nextInt(graph.size());
+                    int r0 = grid.row(s) / size * size, c0 = grid.col(s) / size * size;
+                    int r = Math.min(grid.rows - 1, r0 + rand.nextInt(size));
+                    int c = Math.min(grid.cols - 1, c0 + rand.nextInt(size));
+                    int t = grid.id(r, c);
+                    assertEquals(hierarchy.cluster(s), hierarchy.cluster(t));
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, s, t, null), s, t);
+                }
+            }
+        }
+    }
+
+    @Test
+    void editsThroughListenerKeepResultsOptimal() {
+        MazeGrid grid = SolverAssertions.maze(32, 32, 0.3, 21);
+        WeightedGraph graph = new WeightedGraph(grid);
+        HierarchicalGraph hierarchy = new HierarchicalGraph(graph, 8);
+        grid.addChangeListener(hierarchy);
+        HierarchicalSolver solver = new HierarchicalSolver(hierarchy);
+        Random rand = new Random(21);
+        for (int round = 0; round < 150; round++) {
+            int cell = rand.nextInt(grid.size());
+            int other = grid.col(cell) < grid.cols - 1 ? cell + 1 : cell - 1;
+            switch (rand.nextInt(3)) {
+                case 0: grid.setTerrain(cell, MazeGrid.TERRAINS[rand.nextInt(MazeGrid.TERRAINS.length)]); break;
+                case 1: grid.removeWall(cell, other); break;
+                default: grid.addWall(cell, other); break;
+            }
+            int s = rand.nextInt(grid.size()), t = rand.nextInt(grid.size());
+            SolverAssertions.assertOptimal(graph, solver.solve(graph, s, t, null), s, t);
+        }
+    }
+
+    @Test
+    void unreachableTargetIsNotFound() {
+        MazeGrid grid = SolverAssertions.maze(30, 30, 0.4, 5);
+        // Blok yang melintasi batas cluster 8x8
+        SolverAssertions.enclose(grid, 6, 6, 5, 5);
+        WeightedGraph graph = new WeightedGraph(grid);
+        HierarchicalSolver solver = new HierarchicalSolver(new HierarchicalGraph(graph, 8));
+        int inside = grid.id(7, 7), outside = grid.id(25, 2);
+        assertFalse(solver.solve(graph, inside, outside, null).found());
+        assertFalse(solver.solve(graph, outside, inside, null).found());
+        assertFalse(solver.solve(graph, grid.id(5, 5), inside, null).found());
+        SolverAssertions.assertOptimal(graph, solver.solve(graph, inside, grid.id(10, 10), null), inside, grid.id(10, 10));
+    }
+
+    @Test
+    void startEqualsEndIsAOneCellPath() {
+        WeightedGraph graph = new WeightedGraph(SolverAssertions.maze(20, 20, 0.3, 6));
+        HierarchicalGraph hierarchy = new HierarchicalGraph(graph, 8);
+        HierarchicalSolver solver = new HierarchicalSolver(hierarchy);
+        for (int cell = 0; cell < graph.size(); cell += 13) {
+            SolveResult r = solver.solve(graph, cell, cell, null);
+            assertArrayEquals(new int[] {cell}, r.path);
+            assertEquals(0, r.cost);
+        }
+    }
+
+    @Test
+    void rejectsClusterSizeOutOfRange() {
+        WeightedGraph graph = new WeightedGraph(new MazeGrid(4, 4));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalGraph(graph, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalGraph(graph, HierarchicalGraph.MAX_CLUSTER_SIZE + 1));
+    }
+}
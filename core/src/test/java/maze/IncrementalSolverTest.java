@@ -0,0 +1,146 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// LPA* setelah serangkaian edit acak harus selalu memberi biaya yang sama dengan Dijkstra dari nol
+class IncrementalSolverTest {
+    private static final int ROUNDS = 400;
+
+    private static MazeGrid braidedMaze(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        MazeGrid grid = new MazeGrid(rows, cols);
+        new PrimGenerator().generate(grid, rand, 0.2);
+        TerrainAssigner.assign(grid, rand);
+        return grid;
+    }
+
+    @Test
+    void listenerEditsMatchDijkstra() {
+        for (long seed = 1; seed <= 5; seed++) {
+            MazeGrid grid = braidedMaze(24, 31, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            IncrementalSolver lpa = new IncrementalSolver();
+            grid.addChangeListener(lpa);
+            Random rand = new Random(seed * 31);
+            int start = 0, end = grid.size() - 1;
+            for (int round = 0; round < ROUNDS; round++) {
+                int edits = 1 + rand.nextInt(4);
+                for (int k = 0; k < edits; k++) randomEdit(grid, rand);
+                assertSameCost(graph, lpa.solve(graph, start, end, null), start, end);
+            }
+        }
+    }
+
+    @Test
+    void snapshotEditsMatchDijkstra() {
+        for (long seed = 1; seed <= 5; seed++) {
+            MazeGrid grid = braidedMaze(19, 27, seed);
+            WeightedGraph graph = new WeightedGraph(grid.snapshot());
+            IncrementalSolver lpa = new IncrementalSolver();
+            Random rand = new Random(seed * 17);
+            int start = grid.id(0, 3), end = grid.id(18, 20);
+            lpa.solve(graph, start, end, null);
+            for (int round = 0; round < ROUNDS; round++) {
+                // Grid tanpa listener; sel yang berubah dilaporkan bersama snapshot baru
+                int[] cells = randomEdit(grid, rand);
+                graph = new WeightedGraph(grid.snapshot());
+                lpa.graphChanged(graph, cells);
+                assertSameCost(graph, lpa.solve(graph, start, end, null), start, end);
+            }
+        }
+    }
+
+    @Test
+    void oneSideOfAWallIsEnoughToReport() {
+        // Cincin 2x2: 0-2 langsung (biaya 1) atau memutar lewat 1 dan 3 (biaya 3)
+        for (int reported : new int[] {0, 2}) {
+            MazeGrid grid = ring();
+            IncrementalSolver lpa = new IncrementalSolver();
+            assertEquals(1, lpa.solve(new WeightedGraph(grid.snapshot()), 0, 2, null).cost);
+            grid.addWall(0, 2);
+            WeightedGraph graph = new WeightedGraph(grid.snapshot());
+            lpa.graphChanged(graph, reported);
+            assertEquals(3, lpa.solve(graph, 0, 2, null).cost);
+            grid.removeWall(0, 2);
+            graph = new WeightedGraph(grid.snapshot());
+            lpa.graphChanged(graph, reported);
+            assertEquals(1, lpa.solve(graph, 0, 2, null).cost);
+        }
+    }
+
+    @Test
+    void oneSidedWallReportsMatchDijkstra() {
+        for (long seed = 1; seed <= 5; seed++) {
+            MazeGrid grid = braidedMaze(21, 23, seed);
+            WeightedGraph graph = new WeightedGraph(grid.snapshot());
+            IncrementalSolver lpa = new IncrementalSolver();
+            Random rand = new Random(seed * 7);
+            int start = 0, end = grid.size() - 1;
+            lpa.solve(graph, start, end, null);
+            for (int round = 0; round < ROUNDS; round++) {
+                int[] cells = randomEdit(grid, rand);
+                graph = new WeightedGraph(grid.snapshot());
+                lpa.graphChanged(graph, cells[rand.nextInt(cells.length)]);
+                assertSameCost(graph, lpa.solve(graph, start, end, null), start, end);
+            }
+        }
+    }
+
+    private static MazeGrid ring() {
+        MazeGrid grid = new MazeGrid(2, 2);
+        for (int id = 0; id < grid.size(); id++) grid.setTerrain(id, TerrainType.GRASS);
+        grid.removeWall(0, 1);
+        grid.removeWall(1, 3);
+        grid.removeWall(3, 2);
+        grid.removeWall(0, 2);
+        return grid;
+    }
+
+    // Ganti terrain, buka atau tutup dinding; mengembalikan sel yang harus dilaporkan
+    private static int[] randomEdit(MazeGrid grid, Random rand) {
+        int cell = rand.nextInt(grid.size());
+        int choice = rand.nextInt(3);
+        if (choice == 0) {
+            grid.setTerrain(cell, MazeGrid.TERRAINS[rand.nextInt(MazeGrid.TERRAINS.length)]);
+            return new int[] {cell};
+        }
+        int row = grid.row(cell), col = grid.col(cell);
+        boolean right = rand.nextBoolean();
+        if (right ? col == grid.cols - 1 : row == grid.rows - 1) {
+            grid.setTerrain(cell, MazeGrid.TERRAINS[rand.nextInt(MazeGrid.TERRAINS.length)]);
+            return new int[] {cell};
+        }
+        int other = right ? cell + 1 : cell + grid.cols;
+        if (choice == 1) grid.removeWall(cell, other);
+        else grid.addWall(cell, other);
+        return new int[] {cell, other};
+    }
+
+    private static void assertSameCost(WeightedGraph graph, SolveResult actual, int start, int end) {
+        SolveResult expected = new DijkstraSolver().solve(graph, start, end, null);
+        assertEquals(expected.found(), actual.found());
+        if (!expected.found()) return;
+        assertEquals(expected.cost, actual.cost);
+        assertEquals(start, actual.path[0]);
+        assertEquals(end, actual.path[actual.path.length - 1]);
+        assertEquals(actual.cost, pathCost(graph, actual.path));
+    }
+
+    // Path harus berjalan lewat sisi yang benar-benar terbuka
+    private static int pathCost(WeightedGraph graph, int[] path) {
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) {
+            int degree = graph.neighbors(path[i - 1], nb);
+            boolean adjacent = false;
+            for (int k = 0; k < degree; k++) adjacent |= nb[k] == path[i];
+            assertTrue(adjacent, "step " + path[i - 1] + " -> " + path[i] + " crosses a wall");
+            cost += graph.weight(path[i]);
+        }
+        return cost;
+    }
+}
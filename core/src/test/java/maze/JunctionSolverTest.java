@@ -0,0 +1,107 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Koridor dirapatkan dan cabang buntu dikupas, tapi biaya query harus tetap sama dengan Dijkstra
+class JunctionSolverTest {
+    @Test
+    void randomQueriesMatchDijkstra() {
+        for (long seed = 1; seed <= 8; seed++) {
+            double braid = new double[] {0, 0.05, 0.3, 0.8}[(int) (seed % 4)];
+            MazeGrid grid = SolverAssertions.maze(28, 33, braid, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            JunctionSolver solver = new JunctionSolver(new JunctionGraph(graph));
+            for (int[] q : SolverAssertions.queries(grid, new Random(seed), 150)) {
+                SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+            }
+        }
+    }
+
+    @Test
+    void corridorMiddlesAndDeadEndsMatchDijkstra() {
+        for (long seed = 1; seed <= 6; seed++) {
+            MazeGrid grid = SolverAssertions.maze(30, 30, 0.15, seed);
+            WeightedGraph graph = new WeightedGraph(grid);
+            JunctionGraph junctions = new JunctionGraph(graph);
+            JunctionSolver solver = new JunctionSolver(junctions);
+            int[] corridor = cellsOfKind(junctions, JunctionGraph.CORRIDOR);
+            int[] pruned = cellsOfKind(junctions, JunctionGraph.PRUNED);
+            assertTrue(corridor.length > 10 && pruned.length > 10, "maze has corridors and dead ends");
+            Random rand = new Random(seed);
+            for (int i = 0; i < 150; i++) {
+                int[] from = i % 3 == 2 ? pruned : corridor, to = i % 3 == 0 ? corridor : pruned;
+                int s = from[rand.nextInt(from.length)], t = to[rand.nextInt(to.length)];
+                SolverAssertions.assertOptimal(graph, solver.solve(graph, s, t, null), s, t);
+            }
+            // Bertetangga di koridor yang sama, ke dua arah
+            for (int c : Arrays.copyOf(corridor, Math.min(40, corridor.length))) {
+                int[] nb = new int[WeightedGraph.MAX_DEGREE];
+                int degree = graph.neighbors(c, nb);
+                for (int k = 0; k < degree; k++) {
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, c, nb[k], null), c, nb[k]);
+                    SolverAssertions.assertOptimal(graph, solver.solve(graph, nb[k], c, null), nb[k], c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void loopWithoutJunctionsMatchesDijkstra() {
+        // Cincin di tepi grid 5x5 tanpa satu pun junction: core hanya berisi koridor
+        MazeGrid grid = new MazeGrid(5, 5);
+        Random rand = new Random(6);
+        for (int id = 0; id < grid.size(); id++) grid.setTerrain(id, MazeGrid.TERRAINS[rand.nextInt(MazeGrid.TERRAINS.length)]);
+        int[] ring = {0, 1, 2, 3, 4, 9, 14, 19, 24, 23, 22, 21, 20, 15, 10, 5};
+        for (int i = 0; i < ring.length; i++) grid.removeWall(ring[i], ring[(i + 1) % ring.length]);
+        WeightedGraph graph = new WeightedGraph(grid);
+        JunctionSolver solver = new JunctionSolver(new JunctionGraph(graph));
+        for (int s : ring) {
+            for (int t : ring) SolverAssertions.assertOptimal(graph, solver.solve(graph, s, t, null), s, t);
+        }
+        assertFalse(solver.solve(graph, 0, 12, null).found());
+    }
+
+    @Test
+    void unreachableTargetIsNotFound() {
+        MazeGrid grid = SolverAssertions.maze(24, 24, 0.3, 14);
+        SolverAssertions.enclose(grid, 6, 6, 7, 7);
+        WeightedGraph graph = new WeightedGraph(grid);
+        JunctionSolver solver = new JunctionSolver(new JunctionGraph(graph));
+        int inside = grid.id(9, 9), outside = grid.id(20, 20);
+        assertFalse(solver.solve(graph, inside, outside, null).found());
+        assertFalse(solver.solve(graph, outside, inside, null).found());
+        for (int[] q : SolverAssertions.queries(grid, new Random(14), 200)) {
+            SolverAssertions.assertOptimal(graph, solver.solve(graph, q[0], q[1], null), q[0], q[1]);
+        }
+    }
+
+    @Test
+    void startEqualsEndIsAOneCellPath() {
+        MazeGrid grid = SolverAssertions.maze(15, 15, 0.2, 3);
+        WeightedGraph graph = new WeightedGraph(grid);
+        JunctionGraph junctions = new JunctionGraph(graph);
+        JunctionSolver solver = new JunctionSolver(junctions);
+        for (int cell = 0; cell < graph.size(); cell += 7) {
+            SolveResult r = solver.solve(graph, cell, cell, null);
+            assertArrayEquals(new int[] {cell}, r.path, "cell " + cell + " kind " + junctions.node(cell));
+            assertEquals(0, r.cost);
+        }
+    }
+
+    private static int[] cellsOfKind(JunctionGraph junctions, int kind) {
+        int n = junctions.getGraph().size();
+        int[] cells = new int[n];
+        int k = 0;
+        for (int id = 0; id < n; id++) {
+            if (junctions.node(id) == kind) cells[k++] = id;
+        }
+        return Arrays.copyOf(cells, k);
+    }
+}
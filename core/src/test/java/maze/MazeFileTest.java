@@ -0,0 +1,58 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MazeFileTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsWallsAndTerrain() throws IOException {
+        MazeGrid grid = new MazeGrid(13, 9);
+        Random rand = new Random(4);
+        new PrimGenerator().generate(grid, rand, 0.3);
+        TerrainAssigner.assign(grid, rand);
+        Path file = dir.resolve("maze.bin");
+        MazeFile.save(grid, 77, file);
+
+        MappedMaze mapped = MazeFile.open(file);
+        mapped.verify();
+        assertEquals(77, mapped.seed());
+        for (int id = 0; id < grid.size(); id++) {
+            assertEquals(grid.walls(id), mapped.walls(id));
+            assertEquals(grid.terrainOrdinal(id), mapped.terrainOrdinal(id));
+        }
+    }
+
+    @Test
+    void corruptTerrainIsReportedWhenReadNotWhenOpened() throws IOException {
+        MazeGrid grid = new MazeGrid(6, 5);
+        Path file = dir.resolve("corrupt.bin");
+        MazeFile.save(grid, 1, file);
+        int row = 3, col = 4;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(MazeFile.HEADER_SIZE + (long) row * MazeFile.rowBytes(5) + MazeFile.packedWallBytes(5) + col);
+            raf.write(200);
+        }
+
+        // open tidak membaca sel, jadi tetap berhasil
+        MappedMaze mapped = MazeFile.open(file);
+        assertEquals(0, mapped.terrainOrdinal(0));
+        UncheckedIOException read = assertThrows(UncheckedIOException.class, () -> mapped.weight(grid.id(row, col)));
+        assertTrue(read.getMessage().contains(file.toString()));
+
+        IOException verify = assertThrows(IOException.class, mapped::verify);
+        assertTrue(verify.getMessage().contains("row 3, col 4"));
+        assertThrows(IOException.class, () -> MazeFile.load(file));
+    }
+}
@@ -0,0 +1,33 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MazeSnapshotTest {
+    @Test
+    void withTerrainChangesOneCellAndLeavesTheOriginalIntact() {
+        // Lebih dari satu potongan terrain supaya sel di potongan lain ikut diperiksa
+        MazeGrid grid = new MazeGrid(300, 500);
+        Random rand = new Random(3);
+        new PrimGenerator().generate(grid, rand, 0.3);
+        TerrainAssigner.assign(grid, rand);
+        MazeSnapshot before = grid.snapshot();
+
+        int cell = 70_000;
+        TerrainType next = MazeGrid.TERRAINS[(before.terrainOrdinal(cell) + 1) % MazeGrid.TERRAINS.length];
+        MazeSnapshot after = before.withTerrain(cell, next);
+        grid.setTerrain(cell, next);
+
+        for (int id = 0; id < grid.size(); id++) {
+            assertEquals(grid.walls(id), after.walls(id));
+            assertEquals(grid.terrainOrdinal(id), after.terrainOrdinal(id));
+            assertEquals(grid.weight(id), after.weight(id));
+            if (id != cell) assertEquals(after.terrainOrdinal(id), before.terrainOrdinal(id));
+        }
+        assertEquals(next, after.terrain(cell));
+        assertEquals(MazeGrid.TERRAINS[(next.ordinal() + MazeGrid.TERRAINS.length - 1) % MazeGrid.TERRAINS.length],
+                before.terrain(cell));
+    }
+}
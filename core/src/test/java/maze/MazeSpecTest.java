@@ -0,0 +1,29 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class MazeSpecTest {
+    @Test
+    void tileSizeIsPartOfTheKey() {
+        // Pool tidak memengaruhi hasil, jadi tidak ikut kunci; ukuran tile ikut
+        ForkJoinPool pool = ForkJoinPool.commonPool(), single = new ForkJoinPool(1);
+        MazeSpec small = new MazeSpec(new TiledGenerator(new PrimGenerator(), 8, pool), 40, 40, 9, 0.3);
+        MazeSpec large = new MazeSpec(new TiledGenerator(new PrimGenerator(), 16, pool), 40, 40, 9, 0.3);
+        MazeSpec same = new MazeSpec(new TiledGenerator(new PrimGenerator(), 8, single), 40, 40, 9, 0.3);
+        single.shutdown();
+        assertNotEquals(small, large);
+        assertEquals(small, same);
+        assertEquals(small.hashCode(), same.hashCode());
+
+        MazeCache cache = new MazeCache();
+        MazeSnapshot a = cache.get(small), b = cache.get(large);
+        boolean differs = false;
+        for (int id = 0; id < a.size(); id++) differs |= a.walls(id) != b.walls(id);
+        assertTrue(differs);
+    }
+}
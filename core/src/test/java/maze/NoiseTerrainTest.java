@@ -0,0 +1,38 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class NoiseTerrainTest {
+    @Test
+    void parallelFillNotifiesChangedCellsFromTheCallingThread() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MazeGrid grid = new MazeGrid(300, 200);
+            MazeGrid before = MazeGrid.copyOf(grid);
+            Thread caller = Thread.currentThread();
+            BitSet reported = new BitSet();
+            grid.addChangeListener(cell -> {
+                assertSame(caller, Thread.currentThread());
+                reported.set(cell);
+            });
+            NoiseTerrain noise = new NoiseTerrain(42);
+            noise.assign(grid, pool);
+
+            BitSet expected = new BitSet();
+            for (int id = 0; id < grid.size(); id++) {
+                if (grid.terrainOrdinal(id) != before.terrainOrdinal(id)) expected.set(id);
+                int r = grid.row(id), c = grid.col(id);
+                TerrainType type = TerrainAssigner.isEndpoint(r, c, grid.rows, grid.cols) ? TerrainType.STONE : noise.terrain(r, c);
+                assertEquals(type, grid.terrain(id));
+            }
+            assertEquals(expected, reported);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
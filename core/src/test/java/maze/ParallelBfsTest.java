@@ -0,0 +1,109 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Peta jarak ParallelBfs.search harus identik dengan BFS sekuensial di pool berapa pun
+class ParallelBfsTest {
+    private static ForkJoinPool pool, single;
+
+    @BeforeAll
+    static void startPools() {
+        pool = new ForkJoinPool(4);
+        single = new ForkJoinPool(1);
+    }
+
+    @AfterAll
+    static void stopPools() {
+        pool.shutdown();
+        single.shutdown();
+    }
+
+    static MazeGrid maze(int rows, int cols, double braid, long seed) {
+        Random rand = new Random(seed);
+        MazeGrid grid = new MazeGrid(rows, cols);
+        new PrimGenerator().generate(grid, rand, braid);
+        TerrainAssigner.assign(grid, rand);
+        return grid;
+    }
+
+    @Test
+    void braidedMazesMatchSequentialBfs() {
+        for (long seed = 1; seed <= 6; seed++) {
+            WeightedGraph graph = new WeightedGraph(maze(60, 85, 0.3, seed));
+            int source = new Random(seed).nextInt(graph.size());
+            assertMatches(graph, source, new ParallelBfs(pool));
+            assertMatches(graph, source, new ParallelBfs(single));
+        }
+    }
+
+    @Test
+    void smallOpenGridSwitchesToBottomUp() {
+        // 20x20 tanpa dinding: frontier dari tengah melewati n / ALPHA = 25, lalu turun di bawah n / BETA
+        WeightedGraph graph = new WeightedGraph(maze(20, 20, 1.0, 7));
+        for (int source : new int[] {0, 210, 399}) assertMatches(graph, source, new ParallelBfs(pool));
+    }
+
+    @Test
+    void largeOpenGridSplitsLevelsIntoChunks() {
+        // Frontier berbentuk belah ketupat dari tengah mencapai ~2 * 1500 sel, di atas GRAIN 2048
+        WeightedGraph graph = new WeightedGraph(maze(1500, 1500, 1.0, 11));
+        assertMatches(graph, 750 * 1500 + 750, new ParallelBfs(pool));
+        assertMatches(graph, 0, new ParallelBfs(pool));
+    }
+
+    @Test
+    void largeBraidedMazeMatchesSequentialBfs() {
+        WeightedGraph graph = new WeightedGraph(maze(400, 500, 0.6, 13), true);
+        assertMatches(graph, 123_456, new ParallelBfs(pool));
+    }
+
+    private static void assertMatches(WeightedGraph graph, int source, ParallelBfs bfs) {
+        ShortestPathTree tree = bfs.search(graph, source);
+        assertEquals(source, tree.source);
+        assertArrayEquals(bfsDistances(graph, source), tree.distance);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        for (int v = 0; v < graph.size(); v++) {
+            int p = tree.parent[v];
+            if (v == source || !tree.reached(v)) {
+                assertEquals(-1, p);
+                continue;
+            }
+            assertEquals(tree.distance[p] + 1, tree.distance[v]);
+            int degree = graph.neighbors(p, nb);
+            boolean adjacent = false;
+            for (int k = 0; k < degree; k++) adjacent |= nb[k] == v;
+            assertTrue(adjacent, "parent " + p + " is not adjacent to " + v);
+        }
+    }
+
+    static int[] bfsDistances(WeightedGraph graph, int source) {
+        int n = graph.size();
+        int[] distance = new int[n];
+        Arrays.fill(distance, ShortestPathTree.UNREACHED);
+        int[] queue = new int[n];
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        int head = 0, tail = 0;
+        distance[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            int degree = graph.neighbors(u, nb);
+            for (int j = 0; j < degree; j++) {
+                int v = nb[j];
+                if (distance[v] != ShortestPathTree.UNREACHED) continue;
+                distance[v] = distance[u] + 1;
+                queue[tail++] = v;
+            }
+        }
+        return distance;
+    }
+}
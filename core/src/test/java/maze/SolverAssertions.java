@@ -0,0 +1,88 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+// Maze uji dan pemeriksaan hasil solver yang dipakai bersama oleh test solver
+final class SolverAssertions {
+    private SolverAssertions() {}
+
+    static MazeGrid maze(int rows, int cols, double braid, long seed) {
+        Random rand = new Random(seed);
+        MazeGrid grid = new MazeGrid(rows, cols);
+        new PrimGenerator().generate(grid, rand, braid);
+        TerrainAssigner.assign(grid, rand);
+        return grid;
+    }
+
+    // Tutup keliling blok h x w di (r0, c0) sehingga isinya tidak terjangkau dari luar
+    static void enclose(MazeGrid grid, int r0, int c0, int h, int w) {
+        for (int r = r0; r < r0 + h; r++) {
+            if (c0 > 0) grid.addWall(grid.id(r, c0 - 1), grid.id(r, c0));
+            if (c0 + w < grid.cols) grid.addWall(grid.id(r, c0 + w - 1), grid.id(r, c0 + w));
+        }
+        for (int c = c0; c < c0 + w; c++) {
+            if (r0 > 0) grid.addWall(grid.id(r0 - 1, c), grid.id(r0, c));
+            if (r0 + h < grid.rows) grid.addWall(grid.id(r0 + h - 1, c), grid.id(r0 + h, c));
+        }
+    }
+
+    // Stone berbobot 0 membuat Manhattan tidak admissible; tanpa stone A* (Manhattan) harus optimal
+    static void removeStone(MazeGrid grid) {
+        for (int id = 0; id < grid.size(); id++) {
+            if (grid.terrain(id) == TerrainType.STONE) grid.setTerrain(id, TerrainType.GRASS);
+        }
+    }
+
+    // Heuristik boleh tidak admissible: path harus sah dan tidak lebih murah dari Dijkstra
+    static void assertValid(WeightedGraph graph, SolveResult actual, int start, int end) {
+        SolveResult expected = new DijkstraSolver().solve(graph, start, end, null);
+        String query = actual.algorithm + " " + start + " -> " + end;
+        assertEquals(expected.found(), actual.found(), query);
+        if (!expected.found()) return;
+        assertTrue(actual.cost >= expected.cost, query);
+        assertValidPath(graph, actual.path, start, end, query);
+        assertEquals(actual.cost, SolveResult.pathCost(graph, actual.path), query);
+    }
+
+    // Biaya sama dengan Dijkstra dan path berjalan lewat sisi terbuka dengan biaya yang dilaporkan
+    static void assertOptimal(WeightedGraph graph, SolveResult actual, int start, int end) {
+        SolveResult expected = new DijkstraSolver().solve(graph, start, end, null);
+        String query = actual.algorithm + " " + start + " -> " + end;
+        assertEquals(expected.found(), actual.found(), query);
+        if (!expected.found()) {
+            assertArrayEquals(new int[0], actual.path, query);
+            return;
+        }
+        assertEquals(expected.cost, actual.cost, query);
+        assertValidPath(graph, actual.path, start, end, query);
+        assertEquals(actual.cost, SolveResult.pathCost(graph, actual.path), query);
+    }
+
+    static void assertValidPath(WeightedGraph graph, int[] path, int start, int end, String query) {
+        assertEquals(start, path[0], query);
+        assertEquals(end, path[path.length - 1], query);
+        int[] nb = new int[WeightedGraph.MAX_DEGREE];
+        for (int i = 1; i < path.length; i++) {
+            int degree = graph.neighbors(path[i - 1], nb);
+            boolean adjacent = false;
+            for (int k = 0; k < degree; k++) adjacent |= nb[k] == path[i];
+            assertTrue(adjacent, query + ": step " + path[i - 1] + " -> " + path[i] + " crosses a wall");
+        }
+    }
+
+    // Query acak plus kasus tepi: start == end, sudut ke sudut
+    static int[][] queries(MazeView maze, Random rand, int count) {
+        int n = maze.size();
+        int[][] q = new int[count + 3][];
+        for (int i = 0; i < count; i++) q[i] = new int[] {rand.nextInt(n), rand.nextInt(n)};
+        int same = rand.nextInt(n);
+        q[count] = new int[] {same, same};
+        q[count + 1] = new int[] {0, n - 1};
+        q[count + 2] = new int[] {n - 1, 0};
+        return q;
+    }
+}